@@ -0,0 +1,205 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.maven;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+/**
+ * Make a class-data sharing archive and a preload list of an EO program,
+ * to start it faster.
+ *
+ * <p>The program is run once, as a training run, and the classes it loads
+ * are recorded. The names of EO classes are saved
+ * to {@code META-INF/eo-preload.lst} in the directory with classes, where
+ * {@code org.eolang.Main} finds them and loads them in the background. Then
+ * a class-data sharing archive of all the recorded classes is dumped, which
+ * must be given to JVM with {@code -XX:SharedArchiveFile}, since JVM
+ * can't pick it up by itself, when it's already started. The archive
+ * works only with the same classpath, where all directories are packed
+ * to JARs, which are saved next to the archive. The preload list of the
+ * previous run is deleted before packing, otherwise the training run would
+ * load the classes it lists and they would stay in the list forever.</p>
+ *
+ * @since 0.53
+ */
+@Mojo(
+    name = "archive",
+    defaultPhase = LifecyclePhase.PREPARE_PACKAGE,
+    threadSafe = true,
+    requiresDependencyResolution = ResolutionScope.RUNTIME
+)
+public final class ArchiveMojo extends SafeMojo {
+    /**
+     * Location of the preload list, in the directory with classes.
+     */
+    static final String PRELOAD = "META-INF/eo-preload.lst";
+
+    /**
+     * The object to dataize in the training run, e.g. "org.eolang.io.stdout".
+     * @checkstyle MemberNameCheck (10 lines)
+     */
+    @Parameter(property = "eo.trainingObject", required = true)
+    private String trainingObject;
+
+    /**
+     * Arguments of the object in the training run.
+     * @checkstyle MemberNameCheck (10 lines)
+     */
+    @Parameter(property = "eo.trainingArgs")
+    private List<String> trainingArgs = new ArrayList<>(0);
+
+    /**
+     * Directory, where the list of loaded classes and the archive are saved.
+     * @checkstyle MemberNameCheck (10 lines)
+     */
+    @Parameter(
+        property = "eo.archiveDir",
+        required = true,
+        defaultValue = "${project.build.directory}/eo-archive"
+    )
+    private File archiveDir;
+
+    /**
+     * Runs JVM with the arguments and waits for it.
+     * @checkstyle MemberNameCheck (7 lines)
+     */
+    @SuppressWarnings("PMD.ImmutableField")
+    private Consumer<List<String>> jvm = ArchiveMojo::java;
+
+    @Override
+    void exec() throws IOException {
+        final Path dir = Files.createDirectories(this.archiveDir.toPath());
+        final Path preload = this.classesDir.toPath().resolve(ArchiveMojo.PRELOAD);
+        Files.deleteIfExists(preload);
+        final List<String> entries = new ArrayList<>(0);
+        try {
+            for (final String entry : this.project.getRuntimeClasspathElements()) {
+                final Path path = Paths.get(entry);
+                if (Files.isDirectory(path)) {
+                    entries.add(
+                        ArchiveMojo.jar(
+                            path, dir.resolve(String.format("%d.jar", entries.size()))
+                        ).toString()
+                    );
+                } else {
+                    entries.add(entry);
+                }
+            }
+        } catch (final DependencyResolutionRequiredException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final String classpath = String.join(File.pathSeparator, entries);
+        final Path dump = dir.resolve("classes.lst");
+        final Path archive = dir.resolve("eo.jsa");
+        final List<String> training = new LinkedList<>(
+            Arrays.asList(
+                "-Xshare:off",
+                String.format("-XX:DumpLoadedClassList=%s", dump),
+                "-cp", classpath,
+                "org.eolang.Main",
+                this.trainingObject
+            )
+        );
+        training.addAll(this.trainingArgs);
+        this.jvm.accept(training);
+        Files.createDirectories(preload.getParent());
+        Files.write(preload, new ClassList(dump).names(), StandardCharsets.UTF_8);
+        this.jvm.accept(
+            Arrays.asList(
+                "-Xshare:dump",
+                String.format("-XX:SharedClassListFile=%s", dump),
+                String.format("-XX:SharedArchiveFile=%s", archive),
+                "-cp", classpath
+            )
+        );
+        Logger.info(
+            this,
+            "Preload list saved to %[file]s, the archive may be used by %s",
+            preload,
+            String.format(
+                "java -XX:SharedArchiveFile=%s -cp %s org.eolang.Main ...",
+                archive, classpath
+            )
+        );
+    }
+
+    /**
+     * Pack the directory with classes to JAR, since class-data sharing
+     * archives only classes from JARs.
+     * @param dir The directory
+     * @param jar The JAR to make
+     * @return The JAR
+     * @throws IOException If fails
+     */
+    private static Path jar(final Path dir, final Path jar) throws IOException {
+        try (
+            JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+            Stream<Path> files = Files.walk(dir)
+        ) {
+            for (final Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                output.putNextEntry(
+                    new JarEntry(dir.relativize(file).toString().replace(File.separatorChar, '/'))
+                );
+                Files.copy(file, output);
+                output.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    /**
+     * Run JVM and wait for it.
+     * @param args Arguments of JVM
+     */
+    private static void java(final List<String> args) {
+        final List<String> cmd = new ArrayList<>(args.size() + 1);
+        cmd.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        cmd.addAll(args);
+        final String output;
+        final int code;
+        try {
+            final Process process = new ProcessBuilder(cmd)
+                .redirectErrorStream(true)
+                .start();
+            output = new String(
+                process.getInputStream().readAllBytes(), StandardCharsets.UTF_8
+            );
+            code = process.waitFor();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                String.format("Failed to run JVM with %s", args), ex
+            );
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        if (code != 0) {
+            throw new IllegalStateException(
+                String.format("JVM failed with exit code %d:%n%s", code, output)
+            );
+        }
+        Logger.debug(ArchiveMojo.class, "JVM finished:%n%s", output);
+    }
+}
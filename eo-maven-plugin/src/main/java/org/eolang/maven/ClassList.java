@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.maven;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Names of classes of EO programs and of the runtime, which are found in
+ * the list of loaded classes, dumped by JVM
+ * with {@code -XX:DumpLoadedClassList}.
+ *
+ * <p>Every line of the dump is a name of a class with slashes, which
+ * may be followed by attributes, like {@code id: 42}. Classes of JDK
+ * and of other libraries, as well as lines, which are not classes, like
+ * {@code @lambda-proxy ...}, are skipped.</p>
+ *
+ * @since 0.53
+ */
+final class ClassList {
+    /**
+     * The dump.
+     */
+    private final Path dump;
+
+    /**
+     * Ctor.
+     * @param dump The dump
+     */
+    ClassList(final Path dump) {
+        this.dump = dump;
+    }
+
+    /**
+     * Names of classes, in the order of loading, with dots.
+     * @return Names, like "EOorg.EOeolang.EOnumber"
+     * @throws IOException If fails to read
+     */
+    Collection<String> names() throws IOException {
+        final Set<String> names = new LinkedHashSet<>(0);
+        for (final String line : Files.readAllLines(this.dump, StandardCharsets.UTF_8)) {
+            final String name = line.split(" ", 2)[0].replace('/', '.');
+            if (name.startsWith("EO") || name.startsWith("org.eolang.")) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+}
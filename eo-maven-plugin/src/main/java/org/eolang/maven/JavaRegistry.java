@@ -0,0 +1,217 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.maven;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * Registry of transpiled objects and atoms, to be saved as a Java class,
+ * which implements {@code org.eolang.Registry}.
+ *
+ * <p>The class is registered in {@code META-INF/services}, that's why
+ * the runtime finds all objects and packages without looking
+ * for them in the file system. Transpiled objects are made by
+ * {@code new}, without reflection.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.53
+ */
+final class JavaRegistry {
+    /**
+     * Java package of registries.
+     */
+    static final String PACKAGE = "org.eolang.registry";
+
+    /**
+     * Location of the service file.
+     */
+    static final String SERVICE = "META-INF/services/org.eolang.Registry";
+
+    /**
+     * Max number of cases in one generated method.
+     */
+    private static final int CASES = 256;
+
+    /**
+     * Simple name of the class.
+     */
+    private final String name;
+
+    /**
+     * Java names of transpiled objects.
+     */
+    private final Set<String> objects;
+
+    /**
+     * Java names of atoms.
+     */
+    private final Set<String> atoms;
+
+    /**
+     * Ctor.
+     * @param coordinates Unique coordinates of the module and its scope
+     */
+    JavaRegistry(final String coordinates) {
+        this.name = JavaRegistry.named(coordinates);
+        this.objects = new ConcurrentSkipListSet<>();
+        this.atoms = new ConcurrentSkipListSet<>();
+    }
+
+    /**
+     * Register transpiled object.
+     * @param java Java name of the class, e.g. "EOorg.EOeolang.EOnumber"
+     */
+    void object(final String java) {
+        this.objects.add(java);
+    }
+
+    /**
+     * Register atom.
+     * @param program Name of the program, e.g. "org.eolang.try"
+     */
+    void atom(final String program) {
+        this.atoms.add(
+            Arrays.stream(program.split("\\."))
+                .map(part -> String.format("EO%s", part.replace("-", "_")))
+                .collect(Collectors.joining("."))
+        );
+    }
+
+    /**
+     * Save the class and register it as a service.
+     * @param sources Directory with generated sources
+     * @param classes Directory with classes
+     * @return TRUE if saved, FALSE if there is nothing to register
+     * @throws IOException If fails to save
+     */
+    boolean save(final Path sources, final Path classes) throws IOException {
+        final boolean empty = this.objects.isEmpty() && this.atoms.isEmpty();
+        if (!empty) {
+            JavaRegistry.write(
+                new Place(String.join(".", JavaRegistry.PACKAGE, this.name)).make(
+                    sources, "java"
+                ),
+                this.java()
+            );
+            JavaRegistry.write(
+                classes.resolve(JavaRegistry.SERVICE),
+                String.format("%s.%s\n", JavaRegistry.PACKAGE, this.name)
+            );
+        }
+        return !empty;
+    }
+
+    /**
+     * Java code of the class.
+     * @return Code
+     */
+    private String java() {
+        final List<String> all = new ArrayList<>(this.objects);
+        final StringBuilder out = new StringBuilder(0)
+            .append("/*\n")
+            .append(" * This file was auto-generated by eo-maven-plugin,\n")
+            .append(" * don't modify it, all changes will be lost anyway.\n")
+            .append(" */\n")
+            .append("package ").append(JavaRegistry.PACKAGE).append(";\n\n")
+            .append("public final class ").append(this.name)
+            .append(" implements org.eolang.Registry {\n")
+            .append("    @Override\n")
+            .append("    public java.util.Collection<String> objects() {\n")
+            .append("        return ").append(JavaRegistry.listed(all)).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public java.util.Collection<String> atoms() {\n")
+            .append("        return ").append(JavaRegistry.listed(this.atoms)).append(";\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    public org.eolang.Phi make(final String name) {\n")
+            .append("        return this.make0(name);\n")
+            .append("    }\n");
+        final int methods = (all.size() + JavaRegistry.CASES - 1) / JavaRegistry.CASES;
+        for (int method = 0; method < Math.max(methods, 1); ++method) {
+            out.append("\n    private org.eolang.Phi make").append(method)
+                .append("(final String name) {\n")
+                .append("        final org.eolang.Phi phi;\n")
+                .append("        switch (name) {\n");
+            final int last = Math.min(all.size(), (method + 1) * JavaRegistry.CASES);
+            for (int idx = method * JavaRegistry.CASES; idx < last; ++idx) {
+                out.append("            case \"").append(all.get(idx)).append("\":\n")
+                    .append("                phi = new ").append(all.get(idx)).append("();\n")
+                    .append("                break;\n");
+            }
+            out.append("            default:\n");
+            if (method + 1 < methods) {
+                out.append("                phi = this.make").append(method + 1)
+                    .append("(name);\n");
+            } else {
+                out.append("                throw new IllegalArgumentException(name);\n");
+            }
+            out.append("        }\n")
+                .append("        return phi;\n")
+                .append("    }\n");
+        }
+        return out.append("}\n").toString();
+    }
+
+    /**
+     * Java expression with the list of names.
+     * @param names The names
+     * @return Expression
+     */
+    private static String listed(final Collection<String> names) {
+        final String expr;
+        if (names.isEmpty()) {
+            expr = "java.util.Collections.emptyList()";
+        } else {
+            expr = names.stream()
+                .map(obj -> String.format("\n            \"%s\"", obj))
+                .collect(
+                    Collectors.joining(",", "java.util.Arrays.asList(", "\n        )")
+                );
+        }
+        return expr;
+    }
+
+    /**
+     * Name of the class, unique for the coordinates.
+     * @param coordinates Coordinates of the module and its scope
+     * @return Simple name of the class
+     */
+    private static String named(final String coordinates) {
+        final CRC32 crc = new CRC32();
+        crc.update(coordinates.getBytes(StandardCharsets.UTF_8));
+        return String.format("Registry%08x", crc.getValue());
+    }
+
+    /**
+     * Save the file, if its content differs.
+     * @param file The file
+     * @param content Content
+     * @throws IOException If fails
+     */
+    private static void write(final Path file, final String content) throws IOException {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (!Files.exists(file) || !Arrays.equals(Files.readAllBytes(file), bytes)) {
+            Files.createDirectories(file.getParent());
+            Files.write(file, bytes);
+            Logger.debug(
+                JavaRegistry.class, "Saved %[file]s (%[size]s)", file, file.toFile().length()
+            );
+        }
+    }
+}
@@ -115,6 +115,17 @@ public final class TranspileMojo extends SafeMojo {
     )
     private File outputDir;
 
+    /**
+     * Output of tests.
+     * @checkstyle MemberNameCheck (7 lines)
+     */
+    @Parameter(
+        property = "eo.testOutputDir",
+        required = true,
+        defaultValue = "${project.build.testOutputDirectory}"
+    )
+    private File testOutputDir;
+
     /**
      * Add to source root.
      *
@@ -133,17 +144,23 @@ public final class TranspileMojo extends SafeMojo {
     private boolean addTestSourcesRoot;
 
     @Override
-    public void exec() {
+    public void exec() throws IOException {
         final Collection<TjForeign> sources = this.scopedTojos().withShaken();
         final Function<XML, XML> transform = this.transpilation();
+        final JavaRegistry registry = new JavaRegistry(
+            String.join(
+                ":", this.project.getGroupId(), this.project.getArtifactId(), this.scope
+            )
+        );
         final int saved = new Threaded<>(
             sources,
-            tojo -> this.transpiled(tojo, transform)
+            tojo -> this.transpiled(tojo, transform, registry)
         ).total();
         Logger.info(
             this, "Transpiled %d XMIRs, created %d Java files in %[file]s",
             sources.size(), saved, this.generatedDir
         );
+        this.registered(registry);
         if (this.addSourcesRoot) {
             this.project.addCompileSourceRoot(this.generatedDir.getAbsolutePath());
             Logger.info(
@@ -164,24 +181,31 @@ public final class TranspileMojo extends SafeMojo {
      * Transpile.
      * @param tojo Tojo that should be transpiled.
      * @param transform Optimization that transpiles
+     * @param registry Registry of objects
      * @return Number of transpiled files.
      * @throws java.io.IOException If any issues with I/O
      */
     private int transpiled(
         final TjForeign tojo,
-        final Function<XML, XML> transform
+        final Function<XML, XML> transform,
+        final JavaRegistry registry
     ) throws IOException {
         final Path source = tojo.shaken();
         final XML xmir = new XMLDocument(source);
         final Path base = this.targetDir.toPath().resolve(TranspileMojo.DIR);
-        final Path target = new Place(new ProgramName(xmir).get()).make(base, AssembleMojo.XMIR);
+        final String name = new ProgramName(xmir).get();
+        final Path target = new Place(name).make(base, AssembleMojo.XMIR);
         final Supplier<String> hsh = new TojoHash(tojo);
         final AtomicBoolean rewrite = new AtomicBoolean(false);
+        final boolean atom = new Xnav(xmir.inner())
+            .path("/program/objects/o[1]/o[@name='λ']")
+            .findAny()
+            .isPresent();
+        if (atom) {
+            registry.atom(name);
+        }
         new FpFork(
-            (src, tgt) -> new Xnav(xmir.inner())
-                .path("/program/objects/o[1]/o[@name='λ']")
-                .findAny()
-                .isEmpty(),
+            (src, tgt) -> !atom,
             new FpDefault(
                 src -> {
                     rewrite.compareAndSet(false, true);
@@ -194,7 +218,27 @@ public final class TranspileMojo extends SafeMojo {
             ),
             new FpIgnore()
         ).apply(source, target);
-        return this.javaGenerated(rewrite.get(), target, hsh.get());
+        return this.javaGenerated(rewrite.get(), target, hsh.get(), registry);
+    }
+
+    /**
+     * Save registry of objects, which were transpiled.
+     * @param registry The registry
+     * @throws IOException If fails to save
+     */
+    private void registered(final JavaRegistry registry) throws IOException {
+        final File classes;
+        if ("test".equals(this.scope)) {
+            classes = this.testOutputDir;
+        } else {
+            classes = this.outputDir;
+        }
+        if (registry.save(this.generatedDir.toPath(), classes.toPath())) {
+            Logger.info(
+                this, "Registry of objects saved to %[file]s and registered in %[file]s",
+                this.generatedDir, classes.toPath().resolve(JavaRegistry.SERVICE)
+            );
+        }
     }
 
     /**
@@ -226,23 +270,32 @@ public final class TranspileMojo extends SafeMojo {
      * @param rewrite Rewrite .java files even if they exist
      * @param target Full target path to XMIR after transpilation optimizations
      * @param hsh Tojo hash
+     * @param registry Registry of objects
      * @return Amount of generated .java files
      * @throws IOException If fails to save files
+     * @checkstyle ParameterNumberCheck (10 lines)
      */
     private int javaGenerated(
         final boolean rewrite,
         final Path target,
-        final String hsh
+        final String hsh,
+        final JavaRegistry registry
     ) throws IOException {
         final AtomicInteger saved = new AtomicInteger(0);
         if (Files.exists(target)) {
-            final Collection<Xnav> classes = new Xnav(target)
-                .element("program")
+            final Xnav program = new Xnav(target).element("program");
+            final boolean tests = program.elements(Filter.withName("metas"))
+                .flatMap(metas -> metas.elements(Filter.withName("meta")))
+                .anyMatch(meta -> "tests".equals(meta.element("head").text().orElse("")));
+            final Collection<Xnav> classes = program
                 .element("objects")
                 .elements(Filter.withName("class"))
                 .collect(Collectors.toList());
             for (final Xnav clazz : classes) {
                 final String jname = clazz.attribute("java-name").text().get();
+                if (!tests) {
+                    registry.object(jname);
+                }
                 final Path tgt = new Place(jname).make(
                     this.generatedDir.toPath(), TranspileMojo.JAVA
                 );
@@ -76,6 +76,7 @@ public final class UnspileMojo extends SafeMojo {
                 unspiled += 1;
             }
         }
+        this.unregister();
         if (all.isEmpty()) {
             Logger.warn(
                 this, "No .class files in %[file]s including %s, nothing to unspile",
@@ -104,6 +105,30 @@ public final class UnspileMojo extends SafeMojo {
             .getPathMatcher(String.format("glob:%s", text));
     }
 
+    /**
+     * Delete the registry of objects from services, if its class was deleted.
+     * @throws IOException If fails
+     */
+    private void unregister() throws IOException {
+        final Path service = this.classesDir.toPath().resolve(JavaRegistry.SERVICE);
+        if (Files.exists(service)) {
+            final boolean lost = Files.readAllLines(service).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .anyMatch(
+                    line -> !Files.exists(
+                        this.classesDir.toPath().resolve(
+                            String.format("%s.class", line.replace(".", File.separator))
+                        )
+                    )
+                );
+            if (lost) {
+                Files.delete(service);
+                Logger.debug(this, "Deleted %[file]s since the registry is deleted", service);
+            }
+        }
+    }
+
     /**
      * Delete .class file if .java file is present.
      * @param file EO file
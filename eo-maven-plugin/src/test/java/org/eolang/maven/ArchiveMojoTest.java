@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.maven;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.jar.JarFile;
+import org.apache.maven.plugin.testing.stubs.MavenProjectStub;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link ArchiveMojo}.
+ *
+ * @since 0.53
+ */
+@ExtendWith(MktmpResolver.class)
+final class ArchiveMojoTest {
+    @Test
+    void savesPreloadListOfTrainingRun(@Mktmp final Path temp) throws IOException {
+        final Path classes = temp.resolve("target/classes");
+        ArchiveMojoTest.archived(temp, new ArrayList<>(0));
+        MatcherAssert.assertThat(
+            "Preload list must contain classes of EO, loaded by the training run",
+            Files.readAllLines(classes.resolve(ArchiveMojo.PRELOAD), StandardCharsets.UTF_8),
+            Matchers.contains("org.eolang.Main", "EOorg.EOeolang.EOhello")
+        );
+    }
+
+    @Test
+    void trainsWithoutSharingAndDumpsArchive(@Mktmp final Path temp) throws IOException {
+        final List<List<String>> runs = new ArrayList<>(0);
+        final Path archive = ArchiveMojoTest.archived(temp, runs);
+        MatcherAssert.assertThat(
+            "JVM must be trained with the object and then dump the archive",
+            runs,
+            Matchers.contains(
+                Matchers.hasItems(
+                    "-Xshare:off", "org.eolang.Main", "org.eolang.hello", "x"
+                ),
+                Matchers.hasItems(
+                    "-Xshare:dump",
+                    String.format("-XX:SharedArchiveFile=%s", archive.resolve("eo.jsa"))
+                )
+            )
+        );
+    }
+
+    @Test
+    void packsDirectoryWithClassesToJar(@Mktmp final Path temp) throws IOException {
+        final List<List<String>> runs = new ArrayList<>(0);
+        ArchiveMojoTest.archived(temp, runs);
+        final List<String> training = runs.get(0);
+        final String classpath = training.get(training.indexOf("-cp") + 1);
+        MatcherAssert.assertThat(
+            "Directory with classes must be packed to JAR, which exists",
+            Files.exists(Paths.get(classpath)),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Classpath must contain only the packed JAR",
+            classpath,
+            Matchers.endsWith(".jar")
+        );
+    }
+
+    @Test
+    void dropsPreloadListOfPreviousRun(@Mktmp final Path temp) throws IOException {
+        final Path stale = temp.resolve("target/classes").resolve(ArchiveMojo.PRELOAD);
+        Files.createDirectories(stale.getParent());
+        Files.write(
+            stale, Collections.singletonList("EOorg.EOeolang.EOstale"), StandardCharsets.UTF_8
+        );
+        final Path archive = ArchiveMojoTest.archived(temp, new ArrayList<>(0));
+        try (JarFile jar = new JarFile(archive.resolve("0.jar").toFile())) {
+            MatcherAssert.assertThat(
+                "Preload list of the previous run must not be packed for the training run",
+                jar.getEntry(ArchiveMojo.PRELOAD),
+                Matchers.nullValue()
+            );
+        }
+        MatcherAssert.assertThat(
+            "Preload list must not keep classes of the previous run",
+            Files.readAllLines(stale, StandardCharsets.UTF_8),
+            Matchers.not(Matchers.hasItem("EOorg.EOeolang.EOstale"))
+        );
+    }
+
+    /**
+     * Run the archive goal with fake JVM.
+     * @param temp Temporary directory
+     * @param runs Arguments of JVM runs, which are recorded
+     * @return The directory with the archive
+     * @throws IOException If fails
+     */
+    private static Path archived(final Path temp, final List<List<String>> runs)
+        throws IOException {
+        final Path classes = temp.resolve("target/classes");
+        Files.createDirectories(classes.resolve("org/eolang"));
+        Files.write(classes.resolve("org/eolang/Main.class"), new byte[] {0x01});
+        final Path archive = temp.resolve("target/eo-archive");
+        final Consumer<List<String>> jvm = args -> {
+            runs.add(args);
+            for (final String arg : args) {
+                if (arg.startsWith("-XX:DumpLoadedClassList=")) {
+                    try {
+                        Files.write(
+                            Paths.get(arg.substring(arg.indexOf('=') + 1)),
+                            Arrays.asList(
+                                "java/lang/Object id: 0",
+                                "org/eolang/Main id: 1",
+                                "EOorg/EOeolang/EOhello id: 2"
+                            ),
+                            StandardCharsets.UTF_8
+                        );
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+            }
+        };
+        new FakeMaven(temp)
+            .with(
+                "project",
+                new MavenProjectStub() {
+                    @Override
+                    public List<String> getRuntimeClasspathElements() {
+                        return Collections.singletonList(classes.toString());
+                    }
+                }
+            )
+            .with("trainingObject", "org.eolang.hello")
+            .with("trainingArgs", Collections.singletonList("x"))
+            .with("archiveDir", archive.toFile())
+            .with("classesDir", classes.toFile())
+            .with("jvm", jvm)
+            .execute(ArchiveMojo.class);
+        return archive;
+    }
+}
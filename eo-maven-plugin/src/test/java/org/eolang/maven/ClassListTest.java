@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.maven;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link ClassList}.
+ *
+ * @since 0.53
+ */
+@ExtendWith(MktmpResolver.class)
+final class ClassListTest {
+    @Test
+    void takesOnlyEoClasses(@Mktmp final Path temp) throws IOException {
+        final Path dump = temp.resolve("classes.lst");
+        Files.write(
+            dump,
+            Arrays.asList(
+                "java/lang/Object id: 0",
+                "org/eolang/Main id: 1",
+                "EOorg/EOeolang/EOnumber id: 2",
+                "@lambda-proxy org/eolang/Main run ()Ljava/lang/Runnable;",
+                "com/jcabi/log/Logger"
+            ),
+            StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(
+            "Only classes of EO and of the runtime must be taken, in the order of loading",
+            new ClassList(dump).names(),
+            Matchers.contains("org.eolang.Main", "EOorg.EOeolang.EOnumber")
+        );
+    }
+
+    @Test
+    void takesEveryClassOnlyOnce(@Mktmp final Path temp) throws IOException {
+        final Path dump = temp.resolve("twice.lst");
+        Files.write(
+            dump,
+            Arrays.asList("EOorg/EOeolang/EOtrue", "EOorg/EOeolang/EOtrue id: 7"),
+            StandardCharsets.UTF_8
+        );
+        MatcherAssert.assertThat(
+            "Every class must be taken only once",
+            new ClassList(dump).names(),
+            Matchers.hasSize(1)
+        );
+    }
+}
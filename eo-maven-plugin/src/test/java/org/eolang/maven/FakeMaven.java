@@ -196,6 +196,10 @@ public final class FakeMaven {
                 "outputDir",
                 this.workspace.absolute(Paths.get("target").resolve("classes")).toFile()
             );
+            this.params.putIfAbsent(
+                "testOutputDir",
+                this.workspace.absolute(Paths.get("target").resolve("test-classes")).toFile()
+            );
             this.params.putIfAbsent(
                 "cache",
                 this.workspace.absolute(Paths.get("eo")).resolve("cache/parsed").toFile()
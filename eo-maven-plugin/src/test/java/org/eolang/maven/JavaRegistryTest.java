@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang.maven;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link JavaRegistry}.
+ *
+ * @since 0.53
+ */
+@ExtendWith(MktmpResolver.class)
+final class JavaRegistryTest {
+
+    @Test
+    void makesTranspiledObjectsWithoutReflection(@Mktmp final Path temp) throws Exception {
+        final JavaRegistry registry = new JavaRegistry("org.eolang:eo-runtime:compile");
+        registry.object("EOorg.EOeolang.EOtuple");
+        registry.save(temp.resolve("sources"), temp.resolve("classes"));
+        MatcherAssert.assertThat(
+            "registry must make transpiled object by 'new'",
+            new TextOf(
+                new Walk(temp.resolve("sources")).stream().findFirst().get()
+            ).asString(),
+            Matchers.containsString("phi = new EOorg.EOeolang.EOtuple();")
+        );
+    }
+
+    @Test
+    void registersAtomsByJavaNames(@Mktmp final Path temp) throws Exception {
+        final JavaRegistry registry = new JavaRegistry("org.eolang:eo-runtime:test");
+        registry.atom("org.eolang.fs.dir-walk");
+        registry.save(temp.resolve("sources"), temp.resolve("classes"));
+        MatcherAssert.assertThat(
+            "registry must list atoms by their Java names",
+            new TextOf(
+                new Walk(temp.resolve("sources")).stream().findFirst().get()
+            ).asString(),
+            Matchers.containsString("\"EOorg.EOeolang.EOfs.EOdir_walk\"")
+        );
+    }
+
+    @Test
+    void savesNothingWhenEmpty(@Mktmp final Path temp) throws IOException {
+        MatcherAssert.assertThat(
+            "empty registry must not be saved",
+            new JavaRegistry("a:b:compile").save(
+                temp.resolve("sources"), temp.resolve("classes")
+            ),
+            Matchers.is(false)
+        );
+    }
+}
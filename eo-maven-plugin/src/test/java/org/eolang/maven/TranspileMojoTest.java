@@ -218,6 +218,21 @@ final class TranspileMojoTest {
         );
     }
 
+    @Test
+    void registersTranspiledObjectsInServices(@Mktmp final Path temp) throws Exception {
+        final Map<String, Path> res = new FakeMaven(temp)
+            .withProgram(Paths.get("../eo-runtime/src/main/eo/org/eolang/tuple.eo"))
+            .execute(new FakeMaven.Transpile())
+            .result();
+        MatcherAssert.assertThat(
+            "registry of objects must be registered in services",
+            new TextOf(
+                res.get(String.format("target/classes/%s", JavaRegistry.SERVICE))
+            ).asString(),
+            Matchers.startsWith(JavaRegistry.PACKAGE)
+        );
+    }
+
     @Test
     void transpilesSeveralEoProgramsInParallel(@Mktmp final Path temp) throws IOException {
         final FakeMaven maven = new FakeMaven(temp);
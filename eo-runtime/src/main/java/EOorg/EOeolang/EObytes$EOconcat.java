@@ -12,21 +12,31 @@ package EOorg.EOeolang; // NOPMD
 import org.eolang.AtVoid;
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.Data;
 import org.eolang.Dataized;
+import org.eolang.PhBuffer;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
  * BYTES.CONCAT.
  *
+ * <p>The result keeps its data in {@link PhBuffer}. When it is concatenated
+ * again, the bytes are appended to the same buffer, without copying.</p>
+ *
  * @since 0.23
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "bytes.concat")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EObytes$EOconcat extends PhDefault implements Atom {
+    /**
+     * Forma of bytes, in the global package, which is the forma of {@link Phi#Φ}.
+     */
+    private static final String FORMA = String.format("%s.org.eolang.bytes", Phi.Φ.forma());
+
     /**
      * Ctor.
      */
@@ -37,11 +47,28 @@ public final class EObytes$EOconcat extends PhDefault implements Atom {
 
     @Override
     public Phi lambda() {
-        final byte[] current = new Dataized(this.take(Attr.RHO)).take();
-        final byte[] provided = new Dataized(this.take("b")).take();
-        final byte[] dest = new byte[current.length + provided.length];
-        System.arraycopy(current, 0, dest, 0, current.length);
-        System.arraycopy(provided, 0, dest, current.length, provided.length);
-        return new Data.ToPhi(dest);
+        final PhBuffer current = EObytes$EOconcat.buffer(this.take(Attr.RHO));
+        final Phi bytes = Phi.Φ.take("org.eolang.bytes").copy();
+        bytes.put(0, current.with(new Dataized(this.take("b")).take()));
+        return bytes;
+    }
+
+    /**
+     * Buffer with the data of the bytes.
+     * @param rho The bytes
+     * @return The buffer of the bytes, if they have one, or a new buffer
+     */
+    private static PhBuffer buffer(final Phi rho) {
+        Phi data = rho;
+        if (EObytes$EOconcat.FORMA.equals(rho.forma())) {
+            data = rho.take("data");
+        }
+        final PhBuffer buffer;
+        if (data instanceof PhBuffer) {
+            buffer = (PhBuffer) data;
+        } else {
+            buffer = new PhBuffer(new Dataized(rho).take());
+        }
+        return buffer;
     }
 }
@@ -9,7 +9,6 @@
  */
 package EOorg.EOeolang; // NOPMD
 
-import java.util.Arrays;
 import org.eolang.AtVoid;
 import org.eolang.Atom;
 import org.eolang.Attr;
@@ -17,6 +16,7 @@ import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -26,6 +26,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "bytes.eq")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EObytes$EOeq extends PhDefault implements Atom {
     /**
@@ -39,11 +40,8 @@ public final class EObytes$EOeq extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
         return new Data.ToPhi(
-            Arrays.equals(
-                new Dataized(
-                    this.take("b").take("as-bytes")
-                ).take(),
-                new Dataized(this.take(Attr.RHO)).take()
+            new Dataized(this.take("b").take("as-bytes")).asBytes().equals(
+                new Dataized(this.take(Attr.RHO)).asBytes()
             )
         );
     }
@@ -15,6 +15,7 @@ import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -24,6 +25,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "bytes.not")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EObytes$EOnot extends PhDefault implements Atom {
     @Override
@@ -16,6 +16,7 @@ import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -25,6 +26,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (15 lines)
  */
 @XmirObject(oname = "bytes.or")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EObytes$EOor extends PhDefault implements Atom {
     /**
@@ -15,6 +15,7 @@ import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -24,10 +25,11 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "bytes.size")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EObytes$EOsize extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
-        return new Data.ToPhi(new Dataized(this.take(Attr.RHO)).take().length);
+        return new Data.ToPhi(new Dataized(this.take(Attr.RHO)).asBytes().size());
     }
 }
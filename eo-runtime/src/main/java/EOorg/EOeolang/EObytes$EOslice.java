@@ -9,7 +9,6 @@
  */
 package EOorg.EOeolang; // NOPMD
 
-import java.util.Arrays;
 import org.eolang.AtVoid;
 import org.eolang.Atom;
 import org.eolang.Attr;
@@ -18,6 +17,7 @@ import org.eolang.Dataized;
 import org.eolang.Expect;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -27,6 +27,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "bytes.slice")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EObytes$EOslice extends PhDefault implements Atom {
     /**
@@ -59,10 +60,7 @@ public final class EObytes$EOslice extends PhDefault implements Atom {
             .otherwise("must be a positive integer")
             .it();
         return new Data.ToPhi(
-            Arrays.copyOfRange(
-                new Dataized(this.take(Attr.RHO)).take(),
-                start, start + length
-            )
+            new Dataized(this.take(Attr.RHO)).asBytes().slice(start, length).take()
         );
     }
 }
@@ -9,9 +9,12 @@
  */
 package EOorg.EOeolang; // NOPMD
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.function.Supplier;
 import org.eolang.AtVoid;
 import org.eolang.Atom;
 import org.eolang.Dataized;
@@ -53,6 +56,12 @@ public final class EOerror extends PhDefault implements Atom {
      *
      * <p>You are not supposed to use it anywhere else!</p>
      *
+     * <p>The exception doesn't have a stack trace, since it is used for
+     * control flow, for example by {@code go.to} and {@code try}, and
+     * is thrown and caught much more often than printed. For the same
+     * reason its message and the messages seen on its way out are made
+     * only when they are asked for the first time.</p>
+     *
      * @since 0.24
      */
     public static final class ExError extends ExAbstract {
@@ -68,9 +77,26 @@ public final class EOerror extends PhDefault implements Atom {
         private final Phi enc;
 
         /**
-         * Messages seen on its way out.
+         * Previous error, which messages go before the messages of this one,
+         * or NULL if there is none.
+         */
+        private final ExError earlier;
+
+        /**
+         * Messages seen on its way out, after the messages of
+         * the {@link #earlier} error.
+         */
+        private final Supplier<Collection<String>> seen;
+
+        /**
+         * Message, made when it is asked for the first time.
+         */
+        private String message;
+
+        /**
+         * All messages, made when they are asked for the first time.
          */
-        private final Collection<String> trace;
+        private Collection<String> trace;
 
         /**
          * Ctor.
@@ -95,7 +121,20 @@ public final class EOerror extends PhDefault implements Atom {
          * @param message New message
          */
         public ExError(final ExError cause, final String message) {
-            this(cause.enclosure(), concat(cause.trace, message));
+            this(cause, () -> message);
+        }
+
+        /**
+         * Ctor.
+         * @param cause Previous error
+         * @param message New message, which is made only if it is asked for
+         * @since 0.53
+         */
+        public ExError(final ExError cause, final Supplier<String> message) {
+            this(
+                cause.enclosure(), cause,
+                () -> Collections.singletonList(message.get())
+            );
         }
 
         /**
@@ -104,9 +143,40 @@ public final class EOerror extends PhDefault implements Atom {
          * @param before Messages seen before
          */
         public ExError(final Phi enclosure, final Collection<String> before) {
-            super(EOerror.ExError.safeMessage(enclosure));
+            this(enclosure, null, () -> before);
+        }
+
+        /**
+         * Ctor.
+         * @param enclosure Enclosure inside the error
+         * @param before Messages seen before, which are made only if
+         *  they are asked for
+         * @since 0.53
+         */
+        public ExError(final Phi enclosure, final Supplier<Collection<String>> before) {
+            this(enclosure, null, before);
+        }
+
+        /**
+         * Ctor.
+         * @param enclosure Enclosure inside the error
+         * @param cause Previous error or NULL
+         * @param before Messages seen after the messages of previous error
+         */
+        private ExError(final Phi enclosure, final ExError cause,
+            final Supplier<Collection<String>> before) {
+            super(null, false);
             this.enc = enclosure;
-            this.trace = before;
+            this.earlier = cause;
+            this.seen = before;
+        }
+
+        @Override
+        public String getMessage() {
+            if (this.message == null) {
+                this.message = EOerror.ExError.safeMessage(this.enc);
+            }
+            return this.message;
         }
 
         @Override
@@ -114,7 +184,7 @@ public final class EOerror extends PhDefault implements Atom {
             return String.format(
                 "%s +%s",
                 super.toString(),
-                this.trace.size()
+                this.messages().size()
             );
         }
 
@@ -131,23 +201,22 @@ public final class EOerror extends PhDefault implements Atom {
          * @return The messages
          */
         public Collection<String> messages() {
+            if (this.trace == null) {
+                final Deque<ExError> chain = new ArrayDeque<>(1);
+                ExError error = this;
+                while (error != null) {
+                    chain.push(error);
+                    error = error.earlier;
+                }
+                final Collection<String> list = new ArrayList<>(chain.size());
+                for (final ExError step : chain) {
+                    list.addAll(step.seen.get());
+                }
+                this.trace = Collections.unmodifiableCollection(list);
+            }
             return this.trace;
         }
 
-        /**
-         * Concatenate messages.
-         * @param before Locations before
-         * @param message New one
-         * @return New list of them
-         */
-        private static Collection<String> concat(final Collection<String> before,
-            final String message) {
-            final Collection<String> list = new ArrayList<>(before.size() + 1);
-            list.addAll(before);
-            list.add(message);
-            return list;
-        }
-
         /**
          * Retrieve message from enclosure safely.
          * @param enclosure Enclosure.
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOfs; // NOPMD
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.eolang.AtVoid;
+import org.eolang.Atom;
+import org.eolang.Attr;
+import org.eolang.Data;
+import org.eolang.Dataized;
+import org.eolang.PhDefault;
+import org.eolang.Phi;
+import org.eolang.XmirObject;
+
+/**
+ * Dir.parallel-walk.
+ *
+ * <p>Subdirectories are walked through in threads of the common
+ * fork-join pool, while file objects are made here, in the thread of
+ * the atom, since they are taken from the {@link org.eolang.Context}
+ * of it.</p>
+ *
+ * @since 0.53
+ * @checkstyle TypeNameCheck (100 lines)
+ */
+@XmirObject(oname = "dir.parallel-walk")
+@SuppressWarnings("PMD.AvoidDollarSigns")
+public final class EOdir$EOparallel_walk extends PhDefault implements Atom {
+    /**
+     * Ctor.
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    public EOdir$EOparallel_walk() {
+        this.add("glob", new AtVoid("glob"));
+    }
+
+    @Override
+    public Phi lambda() {
+        final Path path = EOdir$EOwalk.path(this.take(Attr.RHO));
+        try {
+            return new Data.ToPhi(
+                new Walk(path, new Dataized(this.take("glob")).asString())
+                    .foundInParallel()
+                    .stream()
+                    .map(EOdir$EOwalk::file)
+                    .toArray(Phi[]::new)
+            );
+        } catch (final UncheckedIOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can't walk at %s", path),
+                ex.getCause()
+            );
+        }
+    }
+}
@@ -10,10 +10,7 @@
 package EOorg.EOeolang.EOfs; // NOPMD
 
 import java.io.IOException;
-import java.nio.file.FileSystems;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
 import java.util.stream.Stream;
 import org.eolang.AtVoid;
@@ -28,6 +25,10 @@ import org.eolang.XmirObject;
 /**
  * Dir.walk.
  *
+ * <p>The glob is matched against absolute paths of files, in the
+ * same way as in {@code dir.parallel-walk} and {@code dir.walk-chunks},
+ * since all of them find files by {@link Walk}.</p>
+ *
  * @since 0.40
  * @checkstyle TypeNameCheck (100 lines)
  */
@@ -44,30 +45,11 @@ public final class EOdir$EOwalk extends PhDefault implements Atom {
 
     @Override
     public Phi lambda() {
-        final Path path = Paths.get(
-            new Dataized(
-                this.take(Attr.RHO).take("file").take("path")
-            ).asString()
-        ).toAbsolutePath();
-        final String glob = new Dataized(
-            this.take("glob")
-        ).asString();
-        final PathMatcher matcher = FileSystems.getDefault().getPathMatcher(
-            String.format("glob:%s", glob)
-        );
-        try (Stream<Path> paths = Files.walk(path)) {
+        final Path path = EOdir$EOwalk.path(this.take(Attr.RHO));
+        final Walk walk = new Walk(path, new Dataized(this.take("glob")).asString());
+        try (Stream<Path> paths = walk.found()) {
             return new Data.ToPhi(
-                paths
-                    .map(p -> p.toAbsolutePath().toString())
-                    .map(p -> p.substring(p.indexOf(path.toString())))
-                    .filter(p -> matcher.matches(Paths.get(p)))
-                    .map(
-                        p -> {
-                            final Phi file = Phi.Φ.take("org.eolang.fs.file").copy();
-                            file.put(0, new ToPhi(p));
-                            return file;
-                        }
-                    )
+                paths.map(EOdir$EOwalk::file)
                     .toArray(Phi[]::new)
             );
         } catch (final IOException ex) {
@@ -77,4 +59,26 @@ public final class EOdir$EOwalk extends PhDefault implements Atom {
             );
         }
     }
+
+    /**
+     * Absolute path of the directory.
+     * @param dir The directory
+     * @return The path
+     */
+    static Path path(final Phi dir) {
+        return Paths.get(
+            new Dataized(dir.take("file").take("path")).asString()
+        ).toAbsolutePath();
+    }
+
+    /**
+     * File object.
+     * @param path Path of the file
+     * @return The file
+     */
+    static Phi file(final Path path) {
+        final Phi file = Phi.Φ.take("org.eolang.fs.file").copy();
+        file.put(0, new ToPhi(path.toString()));
+        return file;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOfs; // NOPMD
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import org.eolang.Atom;
+import org.eolang.Attr;
+import org.eolang.Data;
+import org.eolang.Dataized;
+import org.eolang.PhDefault;
+import org.eolang.Phi;
+import org.eolang.XmirObject;
+
+/**
+ * Dir.walk-chunks.chunk.files.
+ *
+ * <p>Files are taken from the walk, which is in progress, see
+ * {@link Walks}.</p>
+ *
+ * @since 0.53
+ * @checkstyle TypeNameCheck (100 lines)
+ */
+@XmirObject(oname = "dir.walk-chunks.chunk.files")
+@SuppressWarnings("PMD.AvoidDollarSigns")
+public final class EOdir$EOwalk_chunks$EOchunk$EOfiles extends PhDefault implements Atom {
+    @Override
+    public Phi lambda() {
+        final Phi chunk = this.take(Attr.RHO);
+        final Phi chunks = chunk.take(Attr.RHO);
+        final Path path = EOdir$EOwalk.path(chunks.take(Attr.RHO));
+        try {
+            return new Data.ToPhi(
+                Walks.current().chunk(
+                    path,
+                    new Dataized(chunks.take("glob")).asString(),
+                    new Dataized(chunk.take("start")).asNumber().longValue(),
+                    new Dataized(chunks.take("size")).asNumber().intValue()
+                ).stream().map(EOdir$EOwalk::file).toArray(Phi[]::new)
+            );
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can't walk at %s", path),
+                ex
+            );
+        } catch (final UncheckedIOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Can't walk at %s", path),
+                ex.getCause()
+            );
+        }
+    }
+}
@@ -53,7 +53,7 @@ public final class EOfile$EOopen$EOfile_stream$EOread$EOread_bytes
         );
         try {
             return new ToPhi(
-                Files.INSTANCE.read(
+                Files.current().read(
                     path.toString(),
                     new Dataized(this.take("size")).asNumber().intValue()
                 )
@@ -53,7 +53,7 @@ public final class EOfile$EOopen$EOfile_stream$EOwrite$EOwritten_bytes
             ).asString()
         );
         try {
-            Files.INSTANCE.write(
+            Files.current().write(
                 path.toString(),
                 new Dataized(this.take("buffer")).take()
             );
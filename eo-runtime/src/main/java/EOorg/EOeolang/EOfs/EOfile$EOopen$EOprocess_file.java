@@ -36,13 +36,13 @@ public final class EOfile$EOopen$EOprocess_file extends PhDefault implements Ato
             new Dataized(open.take(Attr.RHO).take("path")).asString()
         );
         try {
-            Files.INSTANCE.open(path.toString());
+            Files.current().open(path.toString());
             try {
                 final Phi scope = open.take("scope").copy();
                 scope.put(0, open.take("file-stream"));
                 new Dataized(scope).take();
             } finally {
-                Files.INSTANCE.close(path.toString());
+                Files.current().close(path.toString());
             }
         } catch (final IOException ex) {
             throw new IllegalArgumentException(
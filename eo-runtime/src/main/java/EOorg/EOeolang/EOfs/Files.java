@@ -9,31 +9,45 @@
  */
 package EOorg.EOeolang.EOfs; // NOPMD
 
+import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
+import org.eolang.Context;
 import org.eolang.ExFailure;
 
 /**
  * File streams.
+ *
+ * <p>Every {@link Context} has its own streams, which are closed
+ * together with it. Every stream is a pair of {@link FileChannel}s:
+ * one is read from the beginning of the file, while the other one is
+ * opened with {@link StandardOpenOption#APPEND}, so that every block
+ * written to it lands at the end of the file, even if other contexts
+ * or processes append to the same file. Bytes are read and written by
+ * blocks, through a direct buffer of the stream, which is reused.
+ * Streams are thread-safe: every one of them has its own lock, that's
+ * why threads, which work with different files, never wait for each
+ * other.</p>
+ *
  * @since 0.40
  */
-final class Files {
+final class Files implements Closeable {
     /**
-     * Files instance.
+     * Size of the buffer of a stream.
      */
-    static final Files INSTANCE = new Files();
+    private static final int BUFFER = 64 * 1024;
 
     /**
-     * File input streams for reading.
+     * File streams, by names of files.
      */
-    private final ConcurrentHashMap<String, Object[]> streams;
+    private final ConcurrentHashMap<String, Stream> streams;
 
     /**
      * Ctor.
@@ -42,6 +56,14 @@ final class Files {
         this.streams = new ConcurrentHashMap<>(0);
     }
 
+    /**
+     * Streams of the current context.
+     * @return Files
+     */
+    static Files current() {
+        return Context.current().part(Files.class, Files::new);
+    }
+
     /**
      * Open file for reading and writing.
      * @param name Name of the file
@@ -49,14 +71,23 @@ final class Files {
      */
     @SuppressWarnings("java:S2095")
     void open(final String name) throws IOException {
-        final Path path = Paths.get(name);
-        this.streams.putIfAbsent(
-            name,
-            new Object[] {
-                java.nio.file.Files.newInputStream(path),
-                java.nio.file.Files.newOutputStream(path, StandardOpenOption.APPEND),
+        if (!this.streams.containsKey(name)) {
+            final Path path = Paths.get(name);
+            final FileChannel reader = FileChannel.open(path, StandardOpenOption.READ);
+            final FileChannel writer;
+            try {
+                writer = FileChannel.open(
+                    path, StandardOpenOption.WRITE, StandardOpenOption.APPEND
+                );
+            } catch (final IOException ex) {
+                reader.close();
+                throw ex;
+            }
+            final Stream stream = new Stream(reader, writer);
+            if (this.streams.putIfAbsent(name, stream) != null) {
+                stream.close();
             }
-        );
+        }
     }
 
     /**
@@ -66,25 +97,15 @@ final class Files {
      * @return Read bytes
      * @throws IOException If fails to read
      */
-    @SuppressWarnings({"PMD.AssignmentInOperand", "PMD.CloseResource"})
     byte[] read(final String name, final int size) throws IOException {
-        synchronized (this.streams) {
-            if (!this.streams.containsKey(name)) {
-                throw new ExFailure(
-                    "File input stream with name %s is absent, can't read",
-                    name
-                );
-            }
-            final byte[] read = new byte[size];
-            int character;
-            int processed = 0;
-            final InputStream input = (InputStream) this.streams.get(name)[0];
-            while (processed < size && (character = input.read()) != -1) {
-                read[processed] = (byte) character;
-                ++processed;
-            }
-            return Arrays.copyOf(read, processed);
+        final Stream stream = this.streams.get(name);
+        if (stream == null) {
+            throw new ExFailure(
+                "File input stream with name %s is absent, can't read",
+                name
+            );
         }
+        return stream.read(size);
     }
 
     /**
@@ -94,15 +115,14 @@ final class Files {
      * @throws IOException If fails to write
      */
     void write(final String name, final byte[] buffer) throws IOException {
-        synchronized (this.streams) {
-            if (!this.streams.containsKey(name)) {
-                throw new ExFailure(
-                    "File output stream with name %s is absent, can't read",
-                    name
-                );
-            }
-            ((OutputStream) this.streams.get(name)[1]).write(buffer);
+        final Stream stream = this.streams.get(name);
+        if (stream == null) {
+            throw new ExFailure(
+                "File output stream with name %s is absent, can't read",
+                name
+            );
         }
+        stream.write(buffer);
     }
 
     /**
@@ -111,16 +131,137 @@ final class Files {
      * @throws IOException If fails to close the streams
      */
     void close(final String name) throws IOException {
-        synchronized (this.streams) {
-            if (!this.streams.containsKey(name)) {
-                throw new ExFailure(
-                    "File streams with name %s is absent, can't close",
-                    name
-                );
+        final Stream stream = this.streams.remove(name);
+        if (stream == null) {
+            throw new ExFailure(
+                "File streams with name %s is absent, can't close",
+                name
+            );
+        }
+        stream.close();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (final String name : this.streams.keySet()) {
+            final Stream stream = this.streams.remove(name);
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+
+    /**
+     * Stream of one file.
+     *
+     * <p>All methods are synchronized on the stream.</p>
+     *
+     * @since 0.53
+     */
+    private static final class Stream implements Closeable {
+        /**
+         * The channel to read from.
+         */
+        private final FileChannel reader;
+
+        /**
+         * The channel to append to.
+         */
+        private final FileChannel writer;
+
+        /**
+         * Buffer, which is reused by all reads and writes, or NULL if
+         * nothing is read or written yet.
+         */
+        private ByteBuffer buffer;
+
+        /**
+         * Position, where the next read starts.
+         */
+        private long position;
+
+        /**
+         * Ctor.
+         * @param reader The channel to read from
+         * @param writer The channel to append to
+         */
+        Stream(final FileChannel reader, final FileChannel writer) {
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        /**
+         * Read bytes, from the position of the previous read.
+         * @param size Amount of bytes to read
+         * @return Read bytes, fewer than requested, if the file is over
+         * @throws IOException If fails
+         */
+        synchronized byte[] read(final int size) throws IOException {
+            final byte[] read = new byte[size];
+            final ByteBuffer buf = this.buffer();
+            int processed = 0;
+            while (processed < size) {
+                buf.clear().limit(Math.min(buf.capacity(), size - processed));
+                final int count = this.reader.read(buf, this.position);
+                if (count < 0) {
+                    break;
+                }
+                buf.flip().get(read, processed, count);
+                processed += count;
+                this.position += count;
+            }
+            final byte[] result;
+            if (processed == size) {
+                result = read;
+            } else {
+                result = Arrays.copyOf(read, processed);
+            }
+            return result;
+        }
+
+        /**
+         * Write bytes to the end of the file.
+         *
+         * <p>Every block is appended by one write to the channel, which
+         * the operating system makes atomic, while a write, which is
+         * larger than the buffer, may interleave with appends of other
+         * contexts, between its blocks.</p>
+         *
+         * @param data Bytes to write
+         * @throws IOException If fails
+         */
+        synchronized void write(final byte[] data) throws IOException {
+            final ByteBuffer buf = this.buffer();
+            int processed = 0;
+            while (processed < data.length) {
+                final int count = Math.min(buf.capacity(), data.length - processed);
+                buf.clear();
+                buf.put(data, processed, count).flip();
+                while (buf.hasRemaining()) {
+                    this.writer.write(buf);
+                }
+                processed += count;
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            try {
+                this.reader.close();
+            } finally {
+                this.writer.close();
+            }
+        }
+
+        /**
+         * The buffer, which is allocated on first use.
+         * @return The buffer
+         */
+        private ByteBuffer buffer() {
+            if (this.buffer == null) {
+                this.buffer = ByteBuffer.allocateDirect(Files.BUFFER);
             }
-            ((InputStream) this.streams.get(name)[0]).close();
-            ((OutputStream) this.streams.get(name)[1]).close();
-            this.streams.remove(name);
+            return this.buffer;
         }
     }
 }
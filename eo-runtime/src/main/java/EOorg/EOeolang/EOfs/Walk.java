@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOfs; // NOPMD
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Walk through a directory, recursively, finding files by glob.
+ *
+ * <p>The glob is matched against absolute paths of files, like in
+ * {@code dir.walk}, and found paths are absolute too. Files are found in the
+ * order of {@link Files#walk(Path, java.nio.file.FileVisitOption...)}:
+ * every directory goes before the files in it.</p>
+ *
+ * @since 0.53
+ */
+final class Walk {
+    /**
+     * The directory.
+     */
+    private final Path root;
+
+    /**
+     * Matcher of absolute paths.
+     */
+    private final PathMatcher matcher;
+
+    /**
+     * Ctor.
+     * @param root The directory
+     * @param glob The glob
+     */
+    Walk(final Path root, final String glob) {
+        this.root = root.toAbsolutePath();
+        this.matcher = FileSystems.getDefault().getPathMatcher(
+            String.format("glob:%s", glob)
+        );
+    }
+
+    /**
+     * Found files, one by one, while the stream is read.
+     * @return Stream of files, which must be closed
+     * @throws IOException If fails
+     */
+    Stream<Path> found() throws IOException {
+        return Files.walk(this.root).filter(this::matches);
+    }
+
+    /**
+     * Found files, while subdirectories are walked through in parallel,
+     * in the common {@link ForkJoinPool}.
+     * @return Files, in the same order as {@link #found()} finds them
+     */
+    List<Path> foundInParallel() {
+        return ForkJoinPool.commonPool().invoke(new Subtree(this.root));
+    }
+
+    /**
+     * Does the path match the glob?
+     * @param path The path
+     * @return TRUE if it does
+     */
+    private boolean matches(final Path path) {
+        return this.matcher.matches(path);
+    }
+
+    /**
+     * Files of a subtree.
+     *
+     * @since 0.53
+     */
+    private final class Subtree extends RecursiveTask<List<Path>> {
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 2_146_358_017_554_906_125L;
+
+        /**
+         * The top of the subtree.
+         */
+        private final transient Path top;
+
+        /**
+         * Ctor.
+         * @param top The top of the subtree
+         */
+        Subtree(final Path top) {
+            super();
+            this.top = top;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            final List<Path> found = new ArrayList<>(0);
+            if (Walk.this.matches(this.top)) {
+                found.add(this.top);
+            }
+            if (Files.isDirectory(this.top, LinkOption.NOFOLLOW_LINKS)) {
+                final List<Path> entries = new ArrayList<>(0);
+                try (DirectoryStream<Path> dir = Files.newDirectoryStream(this.top)) {
+                    dir.forEach(entries::add);
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                final List<Subtree> subtrees = new ArrayList<>(0);
+                for (final Path entry : entries) {
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        final Subtree subtree = new Subtree(entry);
+                        subtree.fork();
+                        subtrees.add(subtree);
+                    }
+                }
+                final Iterator<Subtree> forked = subtrees.iterator();
+                for (final Path entry : entries) {
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        found.addAll(forked.next().join());
+                    } else if (Walk.this.matches(entry)) {
+                        found.add(entry);
+                    }
+                }
+            }
+            return found;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOfs; // NOPMD
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.eolang.Context;
+
+/**
+ * Walks through directories, which are in progress.
+ *
+ * <p>Every {@link Context} has its own walks, which are closed together
+ * with it. A walk is started, when the first chunk of files is asked for,
+ * and continues from where it stopped, when the next chunk is asked for.
+ * The last chunk found is remembered, since the same chunk may be asked
+ * for a few times in a row. If an earlier chunk is asked for, the walk is
+ * started again and the files before the chunk are skipped. When all files
+ * are found, the walk is closed and forgotten. Walks are thread-safe: every
+ * one of them has its own lock.</p>
+ *
+ * @since 0.53
+ */
+final class Walks implements Closeable {
+    /**
+     * Walks, by directories and globs.
+     */
+    private final ConcurrentHashMap<String, Cursor> cursors;
+
+    /**
+     * Ctor.
+     */
+    private Walks() {
+        this.cursors = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Walks of the current context.
+     * @return Walks
+     */
+    static Walks current() {
+        return Context.current().part(Walks.class, Walks::new);
+    }
+
+    /**
+     * Files of one chunk.
+     * @param root The directory
+     * @param glob The glob
+     * @param start Position of the first file of the chunk
+     * @param size Maximum number of files in the chunk
+     * @return Files, less than the size, if there are no more of them
+     * @throws IOException If fails
+     */
+    List<Path> chunk(final Path root, final String glob, final long start,
+        final int size) throws IOException {
+        final String key = String.format("%s %s", root, glob);
+        final Cursor cursor = this.cursors.computeIfAbsent(
+            key, any -> new Cursor(new Walk(root, glob))
+        );
+        final List<Path> found;
+        synchronized (cursor) {
+            found = cursor.next(start, size);
+            if (found.size() < size) {
+                cursor.close();
+                this.cursors.remove(key, cursor);
+            } else if (this.cursors.get(key) != cursor) {
+                cursor.close();
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void close() {
+        for (final String key : this.cursors.keySet()) {
+            final Cursor cursor = this.cursors.remove(key);
+            if (cursor != null) {
+                synchronized (cursor) {
+                    cursor.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Walk in progress.
+     *
+     * @since 0.53
+     */
+    private static final class Cursor implements Closeable {
+        /**
+         * The walk.
+         */
+        private final Walk walk;
+
+        /**
+         * Files, which are being found, or NULL if not started yet.
+         */
+        private Stream<Path> stream;
+
+        /**
+         * Iterator of the stream.
+         */
+        private Iterator<Path> files;
+
+        /**
+         * Position of the next file.
+         */
+        private long position;
+
+        /**
+         * Position of the first file of the last chunk found.
+         */
+        private long first;
+
+        /**
+         * Maximum number of files in the last chunk found.
+         */
+        private int asked;
+
+        /**
+         * Files of the last chunk found, or NULL if nothing is found yet.
+         */
+        private List<Path> last;
+
+        /**
+         * Ctor.
+         * @param walk The walk
+         */
+        Cursor(final Walk walk) {
+            this.walk = walk;
+        }
+
+        /**
+         * Next files.
+         * @param start Position of the first of them
+         * @param size Maximum number of them
+         * @return Files
+         * @throws IOException If fails
+         */
+        List<Path> next(final long start, final int size) throws IOException {
+            if (this.last == null || this.first != start || this.asked != size) {
+                this.last = Collections.unmodifiableList(this.walked(start, size));
+                this.first = start;
+                this.asked = size;
+            }
+            return this.last;
+        }
+
+        @Override
+        public void close() {
+            if (this.stream != null) {
+                this.stream.close();
+                this.stream = null;
+            }
+        }
+
+        /**
+         * Walk further and find next files.
+         * @param start Position of the first of them
+         * @param size Maximum number of them
+         * @return Files
+         * @throws IOException If fails
+         */
+        private List<Path> walked(final long start, final int size) throws IOException {
+            if (this.stream == null || this.position > start) {
+                this.close();
+                this.stream = this.walk.found();
+                this.files = this.stream.iterator();
+                this.position = 0L;
+            }
+            while (this.position < start && this.files.hasNext()) {
+                this.files.next();
+                ++this.position;
+            }
+            final List<Path> found = new ArrayList<>(Math.min(size, 1024));
+            while (found.size() < size && this.files.hasNext()) {
+                found.add(this.files.next());
+                ++this.position;
+            }
+            return found;
+        }
+    }
+}
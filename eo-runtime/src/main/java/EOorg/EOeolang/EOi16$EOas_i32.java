@@ -11,10 +11,11 @@ package EOorg.EOeolang; // NOPMD
 
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.BytesOf;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
+import org.eolang.PhInteger;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -23,19 +24,14 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (6 lines)
  */
 @XmirObject(oname = "i16.as-i32")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOi16$EOas_i32 extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
-        final Phi num = Phi.Φ.take("org.eolang.i32").copy();
-        num.put(
-            0,
-            new ToPhi(
-                new BytesOf(
-                    new Dataized(this.take(Attr.RHO)).take(Short.class).intValue()
-                ).take()
-            )
+        return new PhInteger(
+            new Dataized(this.take(Attr.RHO)).take(Short.class).longValue(),
+            Integer.BYTES
         );
-        return num;
     }
 }
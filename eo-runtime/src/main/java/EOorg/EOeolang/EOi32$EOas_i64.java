@@ -11,11 +11,11 @@ package EOorg.EOeolang; // NOPMD
 
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.BytesOf;
-import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
+import org.eolang.PhInteger;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -24,20 +24,14 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (6 lines)
  */
 @XmirObject(oname = "i32.as-i64")
+@Pure
 
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOi32$EOas_i64 extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
-        final Phi num = Phi.Φ.take("org.eolang.i64").copy();
-        num.put(
-            0,
-            new Data.ToPhi(
-                new BytesOf(
-                    new Dataized(this.take(Attr.RHO)).take(Integer.class).longValue()
-                ).take()
-            )
+        return new PhInteger(
+            new Dataized(this.take(Attr.RHO)).take(Integer.class).longValue()
         );
-        return num;
     }
 }
@@ -11,10 +11,11 @@ package EOorg.EOeolang; // NOPMD
 
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
+import org.eolang.PhNumber;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -23,12 +24,13 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (6 lines)
  */
 @XmirObject(oname = "i64.as-number")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOi64$EOas_number extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
-        return new Data.ToPhi(
-            new Dataized(this.take(Attr.RHO)).take(Long.class).doubleValue()
+        return new PhNumber(
+            (double) new Dataized(this.take(Attr.RHO)).asLong()
         );
     }
 }
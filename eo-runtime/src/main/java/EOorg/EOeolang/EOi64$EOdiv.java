@@ -12,11 +12,11 @@ package EOorg.EOeolang; // NOPMD
 import org.eolang.AtVoid;
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.BytesOf;
-import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
+import org.eolang.PhInteger;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -25,6 +25,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "i64.div")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOi64$EOdiv extends PhDefault implements Atom {
     /**
@@ -37,16 +38,9 @@ public final class EOi64$EOdiv extends PhDefault implements Atom {
 
     @Override
     public Phi lambda() {
-        final Phi num = Phi.Φ.take("org.eolang.i64").copy();
-        num.put(
-            0,
-            new Data.ToPhi(
-                new BytesOf(
-                    new Dataized(this.take(Attr.RHO)).take(Long.class)
-                        / new Dataized(this.take("x").take("as-i64")).take(Long.class)
-                ).take()
-            )
+        return new PhInteger(
+            new Dataized(this.take(Attr.RHO)).asLong()
+                / new Dataized(this.take("x").take("as-i64")).asLong()
         );
-        return num;
     }
 }
@@ -15,6 +15,7 @@ import org.eolang.Attr;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -24,6 +25,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "i64.gt")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOi64$EOgt extends PhDefault implements Atom {
     /**
@@ -37,8 +39,8 @@ public final class EOi64$EOgt extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
         return new ToPhi(
-            new Dataized(this.take(Attr.RHO)).take(Long.class)
-                > new Dataized(this.take("x").take("as-i64")).take(Long.class)
+            new Dataized(this.take(Attr.RHO)).asLong()
+                > new Dataized(this.take("x").take("as-i64")).asLong()
         );
     }
 }
@@ -0,0 +1,35 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang; // NOPMD
+
+import org.eolang.Atom;
+import org.eolang.Attr;
+import org.eolang.Dataized;
+import org.eolang.PhDefault;
+import org.eolang.Phi;
+import org.eolang.XmirObject;
+
+/**
+ * Malloc.direct.φ object.
+ * @since 0.53
+ * @checkstyle TypeNameCheck (5 lines)
+ */
+@XmirObject(oname = "malloc.direct.@")
+@SuppressWarnings("PMD.AvoidDollarSigns")
+public final class EOmalloc$EOdirect$EOφ extends PhDefault implements Atom {
+    @Override
+    public Phi lambda() {
+        final Phi rho = this.take(Attr.RHO);
+        return EOmalloc$EOof$EOφ.scoped(
+            rho,
+            Heaps.current().direct(new Dataized(rho.take("size")).asNumber().intValue())
+        );
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang; // NOPMD
+
+import java.nio.file.Paths;
+import org.eolang.Atom;
+import org.eolang.Attr;
+import org.eolang.Dataized;
+import org.eolang.PhDefault;
+import org.eolang.Phi;
+import org.eolang.XmirObject;
+
+/**
+ * Malloc.mapped.φ object.
+ * @since 0.53
+ * @checkstyle TypeNameCheck (5 lines)
+ */
+@XmirObject(oname = "malloc.mapped.@")
+@SuppressWarnings("PMD.AvoidDollarSigns")
+public final class EOmalloc$EOmapped$EOφ extends PhDefault implements Atom {
+    @Override
+    public Phi lambda() {
+        final Phi rho = this.take(Attr.RHO);
+        return EOmalloc$EOof$EOφ.scoped(
+            rho,
+            Heaps.current().mapped(
+                Paths.get(new Dataized(rho.take("path")).asString()),
+                new Dataized(rho.take("offset")).asNumber().longValue(),
+                new Dataized(rho.take("size")).asNumber().intValue()
+            )
+        );
+    }
+}
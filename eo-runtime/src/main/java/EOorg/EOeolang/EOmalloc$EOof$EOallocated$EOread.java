@@ -38,7 +38,7 @@ public final class EOmalloc$EOof$EOallocated$EOread extends PhDefault implements
     @Override
     public Phi lambda() {
         return new Data.ToPhi(
-            Heaps.INSTANCE.read(
+            Heaps.current().read(
                 new Dataized(this.take(Attr.RHO).take("id")).asNumber().intValue(),
                 new Dataized(this.take("offset")).asNumber().intValue(),
                 new Dataized(this.take("length")).asNumber().intValue()
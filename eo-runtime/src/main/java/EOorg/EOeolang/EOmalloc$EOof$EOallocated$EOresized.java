@@ -47,7 +47,7 @@ public final class EOmalloc$EOof$EOallocated$EOresized extends PhDefault impleme
             .otherwise("must be a number")
             .that(Double::intValue)
             .it();
-        Heaps.INSTANCE.resize(id, size);
+        Heaps.current().resize(id, size);
         return rho;
     }
 }
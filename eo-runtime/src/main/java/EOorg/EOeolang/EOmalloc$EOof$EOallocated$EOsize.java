@@ -28,7 +28,7 @@ public final class EOmalloc$EOof$EOallocated$EOsize extends PhDefault implements
     @Override
     public Phi lambda() {
         return new Data.ToPhi(
-            Heaps.INSTANCE.size(
+            Heaps.current().size(
                 new Dataized(this.take(Attr.RHO).take("id")).asNumber().intValue()
             )
         );
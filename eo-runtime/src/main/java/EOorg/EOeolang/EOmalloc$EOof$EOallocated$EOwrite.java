@@ -37,7 +37,7 @@ public final class EOmalloc$EOof$EOallocated$EOwrite extends PhDefault implement
 
     @Override
     public Phi lambda() {
-        Heaps.INSTANCE.write(
+        Heaps.current().write(
             new Dataized(this.take(Attr.RHO).take("id")).asNumber().intValue(),
             new Dataized(this.take("offset")).asNumber().intValue(),
             new Dataized(this.take("data")).take()
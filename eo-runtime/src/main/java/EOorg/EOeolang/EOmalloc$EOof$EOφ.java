@@ -28,9 +28,19 @@ public final class EOmalloc$EOof$EOφ extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
         final Phi rho = this.take(Attr.RHO);
-        final int identifier = Heaps.INSTANCE.malloc(
-            this, new Dataized(rho.take("size")).asNumber().intValue()
+        return EOmalloc$EOof$EOφ.scoped(
+            rho,
+            Heaps.current().malloc(new Dataized(rho.take("size")).asNumber().intValue())
         );
+    }
+
+    /**
+     * Dataize the scope with the allocated block and free it after.
+     * @param rho The object with {@code scope} and {@code allocated}
+     * @param identifier Identifier of the block
+     * @return The data of the scope
+     */
+    static Phi scoped(final Phi rho, final int identifier) {
         final Phi res;
         try {
             final Phi allocated = rho.take("allocated");
@@ -39,7 +49,7 @@ public final class EOmalloc$EOof$EOφ extends PhDefault implements Atom {
             scope.put(0, allocated);
             res = new Data.ToPhi(new Dataized(scope).take());
         } finally {
-            Heaps.INSTANCE.free(identifier);
+            Heaps.current().free(identifier);
         }
         return res;
     }
@@ -11,10 +11,11 @@ package EOorg.EOeolang.EOmath; // NOPMD
 
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
+import org.eolang.PhNumber;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -24,12 +25,13 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (100 lines)
  */
 @XmirObject(oname = "angle.cos")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOangle$EOcos extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
-        return new Data.ToPhi(
-            Math.cos(new Dataized(this.take(Attr.RHO)).asNumber())
+        return new PhNumber(
+            Math.cos(new Dataized(this.take(Attr.RHO)).asDouble())
         );
     }
 }
@@ -13,7 +13,9 @@ import org.eolang.Atom;
 import org.eolang.Attr;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
+import org.eolang.PhNumber;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -23,12 +25,13 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (100 lines)
  */
 @XmirObject(oname = "real.asin")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOreal$EOasin extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
-        return new ToPhi(
-            Math.asin(new Dataized(this.take(Attr.RHO)).asNumber())
+        return new PhNumber(
+            Math.asin(new Dataized(this.take(Attr.RHO)).asDouble())
         );
     }
 }
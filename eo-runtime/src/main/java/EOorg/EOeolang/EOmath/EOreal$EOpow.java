@@ -14,7 +14,9 @@ import org.eolang.Atom;
 import org.eolang.Attr;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
+import org.eolang.PhNumber;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -24,6 +26,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (100 lines)
  */
 @XmirObject(oname = "real.pow")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOreal$EOpow extends PhDefault implements Atom {
     /**
@@ -36,10 +39,10 @@ public final class EOreal$EOpow extends PhDefault implements Atom {
 
     @Override
     public Phi lambda() {
-        return new ToPhi(
+        return new PhNumber(
             Math.pow(
-                new Dataized(this.take(Attr.RHO)).asNumber(),
-                new Dataized(this.take("x")).asNumber()
+                new Dataized(this.take(Attr.RHO)).asDouble(),
+                new Dataized(this.take("x")).asDouble()
             )
         );
     }
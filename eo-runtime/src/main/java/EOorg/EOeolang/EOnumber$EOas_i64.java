@@ -11,11 +11,11 @@ package EOorg.EOeolang; // NOPMD
 
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.BytesOf;
-import org.eolang.Data;
 import org.eolang.Expect;
 import org.eolang.PhDefault;
+import org.eolang.PhInteger;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -24,19 +24,13 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (6 lines)
  */
 @XmirObject(oname = "number.as-i64")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOnumber$EOas_i64 extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
-        final Phi num = Phi.Φ.take("org.eolang.i64").copy();
-        num.put(
-            0,
-            new Data.ToPhi(
-                new BytesOf(
-                    new Expect.Number(Expect.at(this, Attr.RHO)).it().longValue()
-                ).take()
-            )
+        return new PhInteger(
+            new Expect.Number(Expect.at(this, Attr.RHO)).it().longValue()
         );
-        return num;
     }
 }
@@ -11,10 +11,11 @@ package EOorg.EOeolang; // NOPMD
 
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.Data;
 import org.eolang.Expect;
 import org.eolang.PhDefault;
+import org.eolang.PhNumber;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -24,12 +25,13 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "number.floor")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOnumber$EOfloor extends PhDefault implements Atom {
     @Override
     public Phi lambda() {
-        return new Data.ToPhi(
-            new Expect.Number(Expect.at(this, Attr.RHO)).it().longValue()
+        return new PhNumber(
+            (double) new Expect.Number(Expect.at(this, Attr.RHO)).it().longValue()
         );
     }
 }
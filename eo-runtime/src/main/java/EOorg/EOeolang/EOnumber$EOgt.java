@@ -16,6 +16,7 @@ import org.eolang.Data;
 import org.eolang.Expect;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -25,6 +26,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "number.gt")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOnumber$EOgt extends PhDefault implements Atom {
     /**
@@ -12,10 +12,11 @@ package EOorg.EOeolang; // NOPMD
 import org.eolang.AtVoid;
 import org.eolang.Atom;
 import org.eolang.Attr;
-import org.eolang.Data;
 import org.eolang.Expect;
 import org.eolang.PhDefault;
+import org.eolang.PhNumber;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -25,6 +26,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "number.plus")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOnumber$EOplus extends PhDefault implements Atom {
     /**
@@ -37,8 +39,8 @@ public final class EOnumber$EOplus extends PhDefault implements Atom {
 
     @Override
     public Phi lambda() {
-        final Double left = new Expect.Number(Expect.at(this, Attr.RHO)).it();
-        final Double right = new Expect.Number(Expect.at(this, "x")).it();
-        return new Data.ToPhi(Double.sum(left, right));
+        final double left = new Expect.Number(Expect.at(this, Attr.RHO)).it();
+        final double right = new Expect.Number(Expect.at(this, "x")).it();
+        return new PhNumber(left + right);
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOstructs; // NOPMD
+
+import java.util.stream.IntStream;
+import org.eolang.AtVoid;
+import org.eolang.Atom;
+import org.eolang.Attr;
+import org.eolang.Context;
+import org.eolang.Data;
+import org.eolang.Dataized;
+import org.eolang.Expect;
+import org.eolang.PhDefault;
+import org.eolang.Phi;
+import org.eolang.XmirObject;
+
+/**
+ * List.parallel-mappedi.
+ *
+ * <p>Results of the function are dataized in the common
+ * {@link java.util.concurrent.ForkJoinPool}, one task for every element,
+ * and then are put into the new list in the order of elements. Every
+ * task, from the copy of the function to the result, is done within the
+ * {@link Context} of the list. If dataization of some result fails, the
+ * failure is thrown out.</p>
+ *
+ * @since 0.53
+ * @checkstyle TypeNameCheck (5 lines)
+ */
+@XmirObject(oname = "list.parallel-mappedi")
+@SuppressWarnings("PMD.AvoidDollarSigns")
+public final class EOlist$EOparallel_mappedi extends PhDefault implements Atom {
+    /**
+     * Ctor.
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    public EOlist$EOparallel_mappedi() {
+        this.add("func", new AtVoid("func"));
+    }
+
+    @Override
+    public Phi lambda() {
+        final Phi origin = this.take(Attr.RHO).take("origin");
+        final int length = Expect.at(origin, "length")
+            .that(phi -> new Dataized(phi).asNumber().intValue())
+            .otherwise("be a tuple with the 'length' attribute")
+            .it();
+        final Phi[] items = new Phi[length];
+        Phi tuple = origin;
+        for (int idx = length - 1; idx >= 0; --idx) {
+            items[idx] = tuple.take("value");
+            tuple = tuple.take("prev");
+        }
+        final Phi func = this.take("func");
+        final Phi[] results = new Phi[length];
+        final Context context = Context.current();
+        IntStream.range(0, length).parallel().forEach(
+            idx -> results[idx] = context.within(
+                () -> {
+                    final Phi applied = func.copy();
+                    applied.put(0, items[idx]);
+                    applied.put(1, new Data.ToPhi(idx));
+                    return new Data.ToPhi(new Dataized(applied).take());
+                }
+            )
+        );
+        final Phi list = Phi.Φ.take("org.eolang.structs.list").copy();
+        list.put(0, new Data.ToPhi(results));
+        return list;
+    }
+}
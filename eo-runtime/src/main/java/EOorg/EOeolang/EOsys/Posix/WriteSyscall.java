@@ -9,6 +9,9 @@
 package EOorg.EOeolang.EOsys.Posix; // NOPMD
 
 import EOorg.EOeolang.EOsys.Syscall;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.eolang.Context;
 import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
@@ -16,6 +19,11 @@ import org.eolang.Phi;
 
 /**
  * Write syscall.
+ *
+ * <p>If the {@link Context} has its own console, bytes for the standard
+ * output and error are written there, not to the descriptors of the
+ * process.</p>
+ *
  * @since 0.40
  */
 public final class WriteSyscall implements Syscall {
@@ -35,17 +43,44 @@ public final class WriteSyscall implements Syscall {
     @Override
     public Phi make(final Phi... params) {
         final Phi result = this.posix.take("return").copy();
-        result.put(
-            0,
-            new Data.ToPhi(
-                CStdLib.INSTANCE.write(
-                    new Dataized(params[0]).asNumber().intValue(),
-                    new Dataized(params[1]).asString(),
-                    new Dataized(params[2]).asNumber().intValue()
-                )
-            )
-        );
+        final int descriptor = new Dataized(params[0]).asNumber().intValue();
+        final OutputStream console = Context.current().console(descriptor);
+        final int written;
+        if (console == null) {
+            written = CStdLib.INSTANCE.write(
+                descriptor,
+                new Dataized(params[1]).asString(),
+                new Dataized(params[2]).asNumber().intValue()
+            );
+        } else {
+            written = WriteSyscall.written(
+                console,
+                new Dataized(params[1]).take(),
+                new Dataized(params[2]).asNumber().intValue()
+            );
+        }
+        result.put(0, new Data.ToPhi(written));
         result.put(1, new PhDefault());
         return result;
     }
+
+    /**
+     * Write bytes to the console of the context.
+     * @param console The console
+     * @param bytes The bytes
+     * @param size Number of bytes to write
+     * @return Number of bytes written or -1, if failed
+     */
+    static int written(final OutputStream console, final byte[] bytes, final int size) {
+        final int count = Math.min(size, bytes.length);
+        int written;
+        try {
+            console.write(bytes, 0, count);
+            console.flush();
+            written = count;
+        } catch (final IOException ex) {
+            written = -1;
+        }
+        return written;
+    }
 }
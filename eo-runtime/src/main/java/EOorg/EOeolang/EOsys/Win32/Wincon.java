@@ -25,4 +25,9 @@ public interface Wincon {
      * Standard output handle.
      */
     int STD_OUTPUT_HANDLE = -11;
+
+    /**
+     * Standard error handle.
+     */
+    int STD_ERROR_HANDLE = -12;
 }
@@ -11,12 +11,20 @@ package EOorg.EOeolang.EOsys.Win32; // NOPMD
 
 import EOorg.EOeolang.EOsys.Syscall;
 import com.sun.jna.ptr.IntByReference;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.eolang.Context;
 import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.Phi;
 
 /**
  * WriteFile kernel32 function call.
+ *
+ * <p>If the {@link Context} has its own console, bytes for the standard
+ * output and error are written there, not to the handles of the
+ * process.</p>
+ *
  * @see <a href="https://learn.microsoft.com/en-us/windows/win32/api/fileapi/nf-fileapi-writefile">here for details</a>
  * @since 0.40.0
  */
@@ -38,21 +46,54 @@ public final class WriteFileFuncCall implements Syscall {
     public Phi make(final Phi... params) {
         final IntByReference written = new IntByReference();
         final Phi result = this.win.take("return").copy();
-        result.put(
-            "code",
-            new Data.ToPhi(
-                Kernel32.INSTANCE.WriteFile(
-                    Kernel32.INSTANCE.GetStdHandle(
-                        new Dataized(params[0]).asNumber().intValue()
-                    ),
-                    new Dataized(params[1]).take(),
-                    new Dataized(params[2]).asNumber().intValue(),
-                    written,
-                    null
-                )
-            )
+        final int handle = new Dataized(params[0]).asNumber().intValue();
+        final OutputStream console = Context.current().console(
+            WriteFileFuncCall.descriptor(handle)
         );
+        final boolean code;
+        if (console == null) {
+            code = Kernel32.INSTANCE.WriteFile(
+                Kernel32.INSTANCE.GetStdHandle(handle),
+                new Dataized(params[1]).take(),
+                new Dataized(params[2]).asNumber().intValue(),
+                written,
+                null
+            );
+        } else {
+            final byte[] bytes = new Dataized(params[1]).take();
+            final int count = Math.min(
+                new Dataized(params[2]).asNumber().intValue(), bytes.length
+            );
+            boolean done;
+            try {
+                console.write(bytes, 0, count);
+                console.flush();
+                written.setValue(count);
+                done = true;
+            } catch (final IOException ex) {
+                done = false;
+            }
+            code = done;
+        }
+        result.put("code", new Data.ToPhi(code));
         result.put("output", new Data.ToPhi(written.getValue()));
         return result;
     }
+
+    /**
+     * Descriptor of the console, by the standard handle.
+     * @param handle The handle
+     * @return 1 for the output, 2 for the error, zero otherwise
+     */
+    private static int descriptor(final int handle) {
+        final int descriptor;
+        if (handle == Wincon.STD_OUTPUT_HANDLE) {
+            descriptor = 1;
+        } else if (handle == Wincon.STD_ERROR_HANDLE) {
+            descriptor = 2;
+        } else {
+            descriptor = 0;
+        }
+        return descriptor;
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOtxt; // NOPMD
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import org.eolang.Atom;
+import org.eolang.Attr;
+import org.eolang.Data;
+import org.eolang.PhDefault;
+import org.eolang.Phi;
+import org.eolang.Pure;
+import org.eolang.XmirObject;
+
+/**
+ * Regex.pattern.match.all.
+ *
+ * <p>All blocks are found by one matcher, in one pass over the text.</p>
+ *
+ * @since 0.53
+ * @checkstyle TypeNameCheck (5 lines)
+ */
+@XmirObject(oname = "regex.pattern.match.all")
+@Pure
+@SuppressWarnings("PMD.AvoidDollarSigns")
+public final class EOregex$EOpattern$EOmatch$EOall extends PhDefault implements Atom {
+    @Override
+    public Phi lambda() {
+        final Phi match = this.take(Attr.RHO);
+        final Matcher matcher = EOregex$EOpattern$EOmatch$EOmatched_from_index.matcher(match);
+        final List<Phi> blocks = new ArrayList<>(0);
+        int start = 0;
+        while (matcher.find()) {
+            blocks.add(
+                EOregex$EOpattern$EOmatch$EOmatched_from_index.matched(
+                    match.take("matched").copy(),
+                    new Data.ToPhi(blocks.size() + 1),
+                    new Data.ToPhi(start),
+                    matcher
+                )
+            );
+            start = matcher.end();
+        }
+        return new Data.ToPhi(blocks.toArray(new Phi[0]));
+    }
+}
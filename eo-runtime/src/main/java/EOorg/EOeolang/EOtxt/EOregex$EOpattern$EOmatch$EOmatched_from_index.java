@@ -9,12 +9,7 @@
  */
 package EOorg.EOeolang.EOtxt; // NOPMD
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.ObjectInputStream;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.eolang.AtVoid;
 import org.eolang.Atom;
 import org.eolang.Attr;
@@ -22,6 +17,7 @@ import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -30,6 +26,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "regex.pattern.match.matched-from-index")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOregex$EOpattern$EOmatch$EOmatched_from_index extends PhDefault
     implements Atom {
@@ -62,42 +59,18 @@ public final class EOregex$EOpattern$EOmatch$EOmatched_from_index extends PhDefa
     @Override
     public Phi lambda() {
         final Phi match = this.take(Attr.RHO);
-        final InputStream bais = new ByteArrayInputStream(
-            new Dataized(match.take(Attr.RHO).take("serialized")).take()
-        );
-        final Matcher matcher;
-        try {
-            matcher = ((Pattern) new ObjectInputStream(bais).readObject()).matcher(
-                new Dataized(match.take("txt")).asString()
-            );
-        } catch (final IOException | ClassNotFoundException ex) {
-            throw new IllegalArgumentException(ex);
-        }
+        final Matcher matcher = EOregex$EOpattern$EOmatch$EOmatched_from_index.matcher(match);
         final Phi start = this.take(EOregex$EOpattern$EOmatch$EOmatched_from_index.START);
-        final Double from = new Dataized(
-            this.take(EOregex$EOpattern$EOmatch$EOmatched_from_index.START)
-        ).asNumber();
+        final Double from = new Dataized(start).asNumber();
         final boolean found = matcher.find(from.intValue());
         final Phi result;
         if (found) {
-            result = match.take("matched");
-            result.put(
-                EOregex$EOpattern$EOmatch$EOmatched_from_index.POSITION,
-                this.take(EOregex$EOpattern$EOmatch$EOmatched_from_index.POSITION)
+            result = EOregex$EOpattern$EOmatch$EOmatched_from_index.matched(
+                match.take("matched"),
+                this.take(EOregex$EOpattern$EOmatch$EOmatched_from_index.POSITION),
+                start,
+                matcher
             );
-            result.put(EOregex$EOpattern$EOmatch$EOmatched_from_index.START, start);
-            result.put("from", new Data.ToPhi(matcher.start()));
-            result.put("to", new Data.ToPhi(matcher.end()));
-            final Phi[] groups;
-            if (matcher.groupCount() > 0) {
-                groups = new Phi[matcher.groupCount() + 1];
-                for (int idx = 0; idx < groups.length; ++idx) {
-                    groups[idx] = new Data.ToPhi(matcher.group(idx));
-                }
-            } else {
-                groups = new Phi[] {new Data.ToPhi(matcher.group())};
-            }
-            result.put("groups", new Data.ToPhi(groups));
         } else {
             result = match.take("not-matched");
             result.put(
@@ -107,4 +80,42 @@ public final class EOregex$EOpattern$EOmatch$EOmatched_from_index extends PhDefa
         }
         return result;
     }
+
+    /**
+     * Matcher of the text of the match, by the compiled pattern.
+     * @param match The match
+     * @return The matcher
+     */
+    static Matcher matcher(final Phi match) {
+        return Patterns.compiled(
+            new Dataized(match.take(Attr.RHO).take("serialized")).asString()
+        ).matcher(new Dataized(match.take("txt")).asString());
+    }
+
+    /**
+     * Fill the matched block with the last match of the matcher.
+     * @param result The matched block
+     * @param position Sequence number of the block
+     * @param start Index, where the search started
+     * @param matcher The matcher
+     * @return The matched block
+     */
+    static Phi matched(final Phi result, final Phi position, final Phi start,
+        final Matcher matcher) {
+        result.put(EOregex$EOpattern$EOmatch$EOmatched_from_index.POSITION, position);
+        result.put(EOregex$EOpattern$EOmatch$EOmatched_from_index.START, start);
+        result.put("from", new Data.ToPhi(matcher.start()));
+        result.put("to", new Data.ToPhi(matcher.end()));
+        final Phi[] groups;
+        if (matcher.groupCount() > 0) {
+            groups = new Phi[matcher.groupCount() + 1];
+            for (int idx = 0; idx < groups.length; ++idx) {
+                groups[idx] = new Data.ToPhi(matcher.group(idx));
+            }
+        } else {
+            groups = new Phi[] {new Data.ToPhi(matcher.group())};
+        }
+        result.put("groups", new Data.ToPhi(groups));
+        return result;
+    }
 }
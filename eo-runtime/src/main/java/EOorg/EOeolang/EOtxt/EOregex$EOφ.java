@@ -9,10 +9,6 @@
  */
 package EOorg.EOeolang.EOtxt; // NOPMD
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.ObjectOutputStream;
-import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import org.eolang.Atom;
 import org.eolang.Attr;
@@ -21,6 +17,7 @@ import org.eolang.Dataized;
 import org.eolang.ExFailure;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -29,6 +26,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "regex.@")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOregex$EOφ extends PhDefault implements Atom {
     @Override
@@ -44,22 +42,17 @@ public final class EOregex$EOφ extends PhDefault implements Atom {
             builder.append("(?").append(expression.substring(last + 1)).append(')');
         }
         builder.append(expression, 1, last);
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        final Phi pattern = regex.take("pattern");
+        final String source = builder.toString();
         try {
-            final ObjectOutputStream ous = new ObjectOutputStream(baos);
-            final Pattern compiled = Pattern.compile(builder.toString());
-            ous.writeObject(compiled);
-            pattern.put(0, new Data.ToPhi(baos.toByteArray()));
-            ous.close();
-            return pattern;
+            Patterns.compiled(source);
         } catch (final PatternSyntaxException exception) {
             throw new ExFailure(
                 "Regular expression syntax is invalid",
                 exception
             );
-        } catch (final IOException ex) {
-            throw new IllegalArgumentException(ex);
         }
+        final Phi pattern = regex.take("pattern");
+        pattern.put(0, new Data.ToPhi(source));
+        return pattern;
     }
 }
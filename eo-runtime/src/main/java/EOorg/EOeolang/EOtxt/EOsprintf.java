@@ -24,6 +24,7 @@ import org.eolang.ExFailure;
 import org.eolang.Expect;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -32,6 +33,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "sprintf")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOsprintf extends PhDefault implements Atom {
     /**
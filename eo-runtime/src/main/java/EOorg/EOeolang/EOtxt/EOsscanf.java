@@ -23,6 +23,7 @@ import org.eolang.Dataized;
 import org.eolang.ExFailure;
 import org.eolang.PhDefault;
 import org.eolang.Phi;
+import org.eolang.Pure;
 import org.eolang.XmirObject;
 
 /**
@@ -31,6 +32,7 @@ import org.eolang.XmirObject;
  * @checkstyle TypeNameCheck (5 lines)
  */
 @XmirObject(oname = "sscanf")
+@Pure
 @SuppressWarnings("PMD.AvoidDollarSigns")
 public final class EOsscanf extends PhDefault implements Atom {
     /**
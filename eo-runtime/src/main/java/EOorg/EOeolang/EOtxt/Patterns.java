@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOtxt; // NOPMD
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled regular expressions.
+ *
+ * <p>EO objects keep regular expressions as their sources, with flags
+ * inside, like {@code (?i)[a-z]+}, while compiled patterns are kept here,
+ * by sources. Patterns are found without locks and compiled outside of any
+ * lock, so two threads may compile the same source at the same time, but
+ * only one of the patterns is kept. Since the number of sources in a program
+ * may be unbounded, when there are too many of them, some are forgotten,
+ * in no particular order, to make room for the new one. The class is
+ * thread-safe, since {@link Pattern} is immutable.</p>
+ *
+ * @since 0.53
+ */
+final class Patterns {
+    /**
+     * Maximum number of patterns kept.
+     */
+    private static final int MAX = 256;
+
+    /**
+     * Patterns by sources.
+     */
+    private static final Map<String, Pattern> CACHE = new ConcurrentHashMap<>(0);
+
+    /**
+     * Not for instantiation.
+     */
+    private Patterns() {
+    }
+
+    /**
+     * Compiled pattern.
+     * @param source Source of the pattern, with flags
+     * @return The pattern
+     */
+    static Pattern compiled(final String source) {
+        Pattern pattern = Patterns.CACHE.get(source);
+        if (pattern == null) {
+            pattern = Pattern.compile(source);
+            final Iterator<String> others = Patterns.CACHE.keySet().iterator();
+            while (Patterns.CACHE.size() >= Patterns.MAX && others.hasNext()) {
+                Patterns.CACHE.remove(others.next());
+            }
+            final Pattern before = Patterns.CACHE.putIfAbsent(source, pattern);
+            if (before != null) {
+                pattern = before;
+            }
+        }
+        return pattern;
+    }
+}
@@ -9,55 +9,99 @@
  */
 package EOorg.EOeolang; // NOPMD
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eolang.Context;
 import org.eolang.ExFailure;
-import org.eolang.Phi;
 
 /**
  * Dynamic memory.
  *
+ * <p>Every {@link Context} has its own heaps. Identifiers of blocks are
+ * taken from a counter, that's why they never collide. The class is
+ * thread-safe: every block has its own lock, that's why threads, which
+ * work with different blocks, never wait for each other, while no thread
+ * sees a block partially written by another one.</p>
+ *
+ * <p>Blocks are written in place, that's why a write costs as much as
+ * the bytes written, not as the whole block. A block may have more
+ * capacity than its size, that's why a block, which grows step by step,
+ * is copied only a logarithmic number of times.</p>
+ *
+ * <p>A block may be in the heap of JVM, out of it, or mapped to a region
+ * of a file. Blocks out of the heap and mapped blocks don't take space
+ * in the heap and are not moved by the garbage collector. The memory of
+ * them is released, when they are garbage collected after
+ * {@link #free(int)}. Changes of a mapped block are changes of the file,
+ * while its resizing maps a region of another size, at the same
+ * offset.</p>
+ *
  * @since 0.19
  */
 final class Heaps {
 
     /**
-     * Heaps.
+     * All.
      */
-    static final Heaps INSTANCE = new Heaps();
+    private final ConcurrentHashMap<Integer, Block> blocks;
 
     /**
-     * All.
+     * The last identifier given.
      */
-    private final ConcurrentHashMap<Integer, byte[]> blocks;
+    private final AtomicInteger ids;
 
     /**
      * Ctor.
      */
     private Heaps() {
         this.blocks = new ConcurrentHashMap<>(0);
+        this.ids = new AtomicInteger();
+    }
+
+    /**
+     * Heaps of the current context.
+     * @return Heaps
+     */
+    static Heaps current() {
+        return Context.current().part(Heaps.class, Heaps::new);
     }
 
     /**
      * Allocate a block in memory.
-     * @param phi Object
      * @param size How many bytes
      * @return The identifier of pointer to the block in memory
      */
-    int malloc(final Phi phi, final int size) {
-        final int identifier = phi.hashCode();
-        synchronized (this.blocks) {
-            if (this.blocks.containsKey(identifier)) {
-                throw new ExFailure(
-                    String.format(
-                        "Can't allocate block in memory with identifier '%d' because it's already allocated",
-                        identifier
-                    )
-                );
-            }
-            this.blocks.put(identifier, new byte[size]);
-        }
-        return identifier;
+    int malloc(final int size) {
+        return this.allocated(new Block(Heaps.allocating(false), size));
+    }
+
+    /**
+     * Allocate a block out of the heap of JVM.
+     * @param size How many bytes
+     * @return The identifier of pointer to the block in memory
+     */
+    int direct(final int size) {
+        return this.allocated(new Block(Heaps.allocating(true), size));
+    }
+
+    /**
+     * Map a region of the file to a block.
+     *
+     * <p>The file is created, if it's absent, and is extended, if it's
+     * shorter than the region.</p>
+     *
+     * @param file The file
+     * @param offset Offset of the region in the file
+     * @param size Size of the region
+     * @return The identifier of pointer to the block in memory
+     */
+    int mapped(final Path file, final long offset, final int size) {
+        return this.allocated(new Block(Heaps.mapping(file, offset), size));
     }
 
     /**
@@ -66,17 +110,16 @@ final class Heaps {
      * @return Size
      */
     int size(final int identifier) {
-        synchronized (this.blocks) {
-            if (!this.blocks.containsKey(identifier)) {
-                throw new ExFailure(
-                    String.format(
-                        "Block in memory by identifier '%d' is not allocated, can't get size",
-                        identifier
-                    )
-                );
-            }
-            return this.blocks.get(identifier).length;
+        final Block block = this.blocks.get(identifier);
+        if (block == null) {
+            throw new ExFailure(
+                String.format(
+                    "Block in memory by identifier '%d' is not allocated, can't get size",
+                    identifier
+                )
+            );
         }
+        return block.size();
     }
 
     /**
@@ -93,20 +136,16 @@ final class Heaps {
                 )
             );
         }
-        synchronized (this.blocks) {
-            if (!this.blocks.containsKey(identifier)) {
-                throw new ExFailure(
-                    String.format(
-                        "Block in memory by identifier '%d' is not allocated, can't get size",
-                        identifier
-                    )
-                );
-            }
-            final byte[] bytes = this.blocks.get(identifier);
-            final byte[] resized = new byte[size];
-            System.arraycopy(bytes, 0, resized, 0, Math.min(bytes.length, size));
-            this.blocks.put(identifier, resized);
+        final Block block = this.blocks.get(identifier);
+        if (block == null) {
+            throw new ExFailure(
+                String.format(
+                    "Block in memory by identifier '%d' is not allocated, can't get size",
+                    identifier
+                )
+            );
         }
+        block.resize(size);
     }
 
     /**
@@ -117,28 +156,16 @@ final class Heaps {
      * @return Bytes from the block in memory
      */
     byte[] read(final int identifier, final int offset, final int length) {
-        synchronized (this.blocks) {
-            if (!this.blocks.containsKey(identifier)) {
-                throw new ExFailure(
-                    String.format(
-                        "Block in memory by identifier '%d' is not allocated, can't read",
-                        identifier
-                    )
-                );
-            }
-            final byte[] bytes = this.blocks.get(identifier);
-            if (offset + length > bytes.length) {
-                throw new ExFailure(
-                    String.format(
-                        "Can't read '%d' bytes from offset '%d', because only '%d' are allocated",
-                        length,
-                        offset,
-                        bytes.length
-                    )
-                );
-            }
-            return Arrays.copyOfRange(bytes, offset, offset + length);
+        final Block block = this.blocks.get(identifier);
+        if (block == null) {
+            throw new ExFailure(
+                String.format(
+                    "Block in memory by identifier '%d' is not allocated, can't read",
+                    identifier
+                )
+            );
         }
+        return block.read(offset, length);
     }
 
     /**
@@ -148,61 +175,216 @@ final class Heaps {
      * @param data Data to write
      */
     void write(final int identifier, final int offset, final byte[] data) {
-        synchronized (this.blocks) {
-            if (!this.blocks.containsKey(identifier)) {
+        final Block block = this.blocks.get(identifier);
+        if (block == null) {
+            throw new ExFailure(
+                String.format(
+                    "Can't read a block in memory with identifier '%d' because it's not allocated",
+                    identifier
+                )
+            );
+        }
+        block.write(identifier, offset, data);
+    }
+
+    /**
+     * Free it.
+     * @param identifier Identifier of pointer
+     */
+    void free(final int identifier) {
+        if (this.blocks.remove(identifier) == null) {
+            throw new ExFailure(
+                String.format(
+                    "Can't free a block in memory with identifier '%d' because it's not allocated",
+                    identifier
+                )
+            );
+        }
+    }
+
+    /**
+     * Remember the block.
+     * @param block The block
+     * @return Its identifier
+     */
+    private int allocated(final Block block) {
+        final int identifier = this.ids.incrementAndGet();
+        this.blocks.put(identifier, block);
+        return identifier;
+    }
+
+    /**
+     * Memory, which allocates buffers in the heap of JVM or out of it.
+     *
+     * <p>Buffers grow at least twice, while bytes beyond the size of the
+     * block are always zeros, that's why the block, which grows within
+     * its capacity, has zeros at the end, just as a new one.</p>
+     *
+     * @param direct Allocate out of the heap?
+     * @return The memory
+     */
+    private static Memory allocating(final boolean direct) {
+        return (buffer, length, size) -> {
+            final ByteBuffer resized;
+            if (size > buffer.capacity()) {
+                final int capacity = (int) Math.max(
+                    size, Math.min(Integer.MAX_VALUE - 8, buffer.capacity() * 2L)
+                );
+                if (direct) {
+                    resized = ByteBuffer.allocateDirect(capacity);
+                } else {
+                    resized = ByteBuffer.allocate(capacity);
+                }
+                buffer.position(0).limit(length);
+                resized.put(buffer);
+                resized.clear();
+            } else {
+                if (size < length) {
+                    buffer.position(size);
+                    buffer.put(new byte[length - size]);
+                }
+                resized = buffer;
+            }
+            return resized;
+        };
+    }
+
+    /**
+     * Memory, which maps regions of the file.
+     * @param file The file
+     * @param offset Offset of the region in the file
+     * @return The memory
+     */
+    private static Memory mapping(final Path file, final long offset) {
+        return (buffer, length, size) -> {
+            try (FileChannel channel = FileChannel.open(
+                file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE
+            )) {
+                return channel.map(FileChannel.MapMode.READ_WRITE, offset, size);
+            } catch (final IOException ex) {
                 throw new ExFailure(
                     String.format(
-                        "Can't read a block in memory with identifier '%d' because it's not allocated",
-                        identifier
-                    )
+                        "Can't map %d bytes of the file \"%s\" from offset %d",
+                        size, file, offset
+                    ),
+                    ex
                 );
             }
-            final byte[] current = this.blocks.get(identifier);
-            final int length = current.length;
-            if (length < offset + data.length) {
+        };
+    }
+
+    /**
+     * Memory, where the buffers of blocks are.
+     *
+     * @since 0.53
+     */
+    private interface Memory {
+        /**
+         * Make the buffer of the block fit the new size.
+         * @param buffer The buffer
+         * @param length Size of the block
+         * @param size New size of the block
+         * @return The buffer, with at least {@code size} bytes of capacity
+         *  and the bytes of the block
+         */
+        ByteBuffer resized(ByteBuffer buffer, int length, int size);
+    }
+
+    /**
+     * Block of memory.
+     *
+     * <p>All methods are synchronized on the block.</p>
+     *
+     * @since 0.53
+     */
+    private static final class Block {
+        /**
+         * Memory, where the buffer is.
+         */
+        private final Memory memory;
+
+        /**
+         * Bytes, the buffer may be longer than the block.
+         */
+        private ByteBuffer bytes;
+
+        /**
+         * Size of the block.
+         */
+        private int length;
+
+        /**
+         * Ctor.
+         * @param memory Memory, where the buffer is
+         * @param size Size of the block
+         */
+        Block(final Memory memory, final int size) {
+            this.memory = memory;
+            this.bytes = memory.resized(ByteBuffer.allocate(0), 0, size);
+            this.length = size;
+        }
+
+        /**
+         * Size of the block.
+         * @return Size
+         */
+        synchronized int size() {
+            return this.length;
+        }
+
+        /**
+         * Change size of the block.
+         * @param size New size
+         */
+        synchronized void resize(final int size) {
+            this.bytes = this.memory.resized(this.bytes, this.length, size);
+            this.length = size;
+        }
+
+        /**
+         * Read bytes from the block.
+         * @param offset Offset to start reading from
+         * @param size Number of bytes to read
+         * @return Bytes
+         */
+        synchronized byte[] read(final int offset, final int size) {
+            if (offset + size > this.length) {
                 throw new ExFailure(
                     String.format(
-                        "Can't write '%d' bytes with offset '%d' to the block with identifier '%d', because only '%d' were allocated",
-                        data.length,
+                        "Can't read '%d' bytes from offset '%d', because only '%d' are allocated",
+                        size,
                         offset,
-                        identifier,
-                        length
+                        this.length
                     )
                 );
             }
-            final byte[] result = new byte[length];
-            if (offset > 0) {
-                System.arraycopy(current, 0, result, 0, offset);
-            }
-            System.arraycopy(data, 0, result, offset, data.length);
-            if (length > offset + data.length) {
-                System.arraycopy(
-                    current,
-                    offset + data.length,
-                    result,
-                    offset + data.length,
-                    length - offset - data.length
-                );
-            }
-            this.blocks.put(identifier, result);
+            final byte[] data = new byte[size];
+            this.bytes.position(offset);
+            this.bytes.get(data);
+            return data;
         }
-    }
 
-    /**
-     * Free it.
-     * @param identifier Identifier of pointer
-     */
-    void free(final int identifier) {
-        synchronized (this.blocks) {
-            if (!this.blocks.containsKey(identifier)) {
+        /**
+         * Write bytes to the block, in place.
+         * @param identifier Identifier of the block, for error messages
+         * @param offset Writing offset
+         * @param data Data to write
+         */
+        synchronized void write(final int identifier, final int offset, final byte[] data) {
+            if (this.length < offset + data.length) {
                 throw new ExFailure(
                     String.format(
-                        "Can't free a block in memory with identifier '%d' because it's not allocated",
-                        identifier
+                        "Can't write '%d' bytes with offset '%d' to the block with identifier '%d', because only '%d' were allocated",
+                        data.length,
+                        offset,
+                        identifier,
+                        this.length
                     )
                 );
             }
-            this.blocks.remove(identifier);
+            this.bytes.position(offset);
+            this.bytes.put(data);
         }
     }
 }
@@ -5,13 +5,14 @@
 
 package org.eolang;
 
-import java.util.concurrent.atomic.AtomicReference;
-
 /**
  * Attribute that retrieves object only once.
  *
  * <p>It's highly recommended to use it with {@link AtComposite}.</p>
  *
+ * <p>The lock is taken only while the object is not retrieved yet,
+ * after that the object is read without locking.</p>
+ *
  * @since 0.1
  */
 public final class AtOnce implements Attr {
@@ -22,9 +23,9 @@ public final class AtOnce implements Attr {
     private final Attr origin;
 
     /**
-     * Cache.
+     * Cache, {@code NULL} until the object is retrieved.
      */
-    private final AtomicReference<Phi> cached;
+    private volatile Phi cached;
 
     /**
      * Ctor.
@@ -32,7 +33,6 @@ public final class AtOnce implements Attr {
      */
     public AtOnce(final Attr attr) {
         this.origin = attr;
-        this.cached = new AtomicReference<>();
     }
 
     @Override
@@ -42,12 +42,17 @@ public final class AtOnce implements Attr {
 
     @Override
     public Phi get() {
-        synchronized (this.cached) {
-            if (this.cached.get() == null) {
-                this.cached.set(this.origin.get());
+        Phi phi = this.cached;
+        if (phi == null) {
+            synchronized (this) {
+                phi = this.cached;
+                if (phi == null) {
+                    phi = this.origin.get();
+                    this.cached = phi;
+                }
             }
         }
-        return this.cached.get();
+        return phi;
     }
 
     @Override
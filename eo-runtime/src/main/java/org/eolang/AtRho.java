@@ -50,6 +50,14 @@ final class AtRho implements Attr {
         return this.rho.get();
     }
 
+    /**
+     * Is it set?
+     * @return TRUE if it is
+     */
+    boolean isSet() {
+        return this.rho.get() != null;
+    }
+
     @Override
     public void put(final Phi phi) {
         if (this.rho.get() == null) {
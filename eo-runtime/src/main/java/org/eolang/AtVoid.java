@@ -13,6 +13,10 @@ import java.util.concurrent.atomic.AtomicReference;
  * <p>The attribute is not yet set, but can be set. It's writable, but
  * only once.</p>
  *
+ * <p>The class is thread-safe: if a few threads put objects at the same
+ * time, only one of them succeeds, while all others get
+ * {@link ExReadOnly}.</p>
+ *
  * @since 0.1
  */
 public final class AtVoid implements Attr {
@@ -71,9 +75,7 @@ public final class AtVoid implements Attr {
 
     @Override
     public void put(final Phi phi) {
-        if (this.object.get() == null) {
-            this.object.set(phi);
-        } else {
+        if (!this.object.compareAndSet(null, phi)) {
             throw new ExReadOnly(
                 String.format(
                     "This void attribute \"%s\" is already set, can't reset",
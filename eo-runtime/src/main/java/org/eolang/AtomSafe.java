@@ -26,6 +26,30 @@ public final class AtomSafe implements Atom {
 
     @Override
     public Phi lambda() {
+        final Statistics stats = Statistics.current();
+        if (stats != null) {
+            stats.of(((Phi) this.origin).forma()).lambdas.increment();
+        }
+        final Recorded.Lambda event = new Recorded.Lambda();
+        final Phi phi;
+        if (event.isEnabled()) {
+            event.begin();
+            phi = this.called();
+            if (event.shouldCommit()) {
+                event.atom = this.origin.getClass();
+                event.commit();
+            }
+        } else {
+            phi = this.called();
+        }
+        return phi;
+    }
+
+    /**
+     * Call λ of the atom.
+     * @return The result of λ
+     */
+    private Phi called() {
         try {
             return this.origin.lambda();
         } catch (final InterruptedException ex) {
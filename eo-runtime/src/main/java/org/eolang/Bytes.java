@@ -4,6 +4,8 @@
  */
 package org.eolang;
 
+import java.util.Arrays;
+
 /**
  * Bytes.
  *
@@ -89,4 +91,30 @@ public interface Bytes {
      * @return Bytes.
      */
     byte[] take();
+
+    /**
+     * Sub-sequence of these bytes.
+     *
+     * <p>By default the bytes are copied, while {@link BytesOf} shares
+     * the data with the sub-sequence, without copying. If the sub-sequence
+     * goes beyond the end, it is padded with zeros, as
+     * {@link Arrays#copyOfRange(byte[], int, int)} does.</p>
+     *
+     * @param start Index of the first byte
+     * @param length Number of bytes to take
+     * @return Bytes.
+     * @since 0.53
+     */
+    default Bytes slice(final int start, final int length) {
+        return new BytesOf(Arrays.copyOfRange(this.take(), start, start + length));
+    }
+
+    /**
+     * Number of bytes.
+     * @return Size.
+     * @since 0.53
+     */
+    default int size() {
+        return this.take().length;
+    }
 }
@@ -4,7 +4,6 @@
  */
 package org.eolang;
 
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
@@ -26,7 +25,7 @@ public final class BytesOf implements Bytes {
      * @param str UTF-8 Text.
      */
     public BytesOf(final String str) {
-        this(str.getBytes(StandardCharsets.UTF_8));
+        this(new BytesRaw(str.getBytes(StandardCharsets.UTF_8)));
     }
 
     /**
@@ -34,7 +33,7 @@ public final class BytesOf implements Bytes {
      * @param number Integer number.
      */
     public BytesOf(final int number) {
-        this(ByteBuffer.allocate(Integer.BYTES).putInt(number).array());
+        this(new BytesRaw(BytesRaw.encoded(number, Integer.BYTES)));
     }
 
     /**
@@ -42,7 +41,7 @@ public final class BytesOf implements Bytes {
      * @param chr Character.
      */
     public BytesOf(final char chr) {
-        this(ByteBuffer.allocate(Character.BYTES).putChar(chr).array());
+        this(new BytesRaw(BytesRaw.encoded(chr, Character.BYTES)));
     }
 
     /**
@@ -50,7 +49,7 @@ public final class BytesOf implements Bytes {
      * @param number Long number.
      */
     public BytesOf(final long number) {
-        this(ByteBuffer.allocate(Long.BYTES).putLong(number).array());
+        this(new BytesRaw(BytesRaw.encoded(number, Long.BYTES)));
     }
 
     /**
@@ -58,7 +57,7 @@ public final class BytesOf implements Bytes {
      * @param number Double number.
      */
     public BytesOf(final double number) {
-        this(ByteBuffer.allocate(Double.BYTES).putDouble(number).array());
+        this(new BytesRaw(BytesRaw.encoded(Double.doubleToRawLongBits(number), Double.BYTES)));
     }
 
     /**
@@ -129,6 +128,16 @@ public final class BytesOf implements Bytes {
         return this.bytes.take();
     }
 
+    @Override
+    public Bytes slice(final int start, final int length) {
+        return this.bytes.slice(start, length);
+    }
+
+    @Override
+    public int size() {
+        return this.bytes.size();
+    }
+
     @Override
     public String toString() {
         return this.bytes.toString();
@@ -143,4 +152,12 @@ public final class BytesOf implements Bytes {
     public int hashCode() {
         return this.bytes.hashCode();
     }
+
+    /**
+     * View of these bytes, without copying them.
+     * @return The view
+     */
+    BytesRaw view() {
+        return BytesRaw.viewOf(this.bytes);
+    }
 }
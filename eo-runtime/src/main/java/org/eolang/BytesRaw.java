@@ -4,12 +4,17 @@
  */
 package org.eolang;
 
-import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
  * Bytes to be created from byte array only.
  *
+ * <p>The object is a view of a region of an array, which is never copied,
+ * neither on construction nor on slicing. That's why the array must not be
+ * modified by anyone, once it is given to this class. Every operation,
+ * which makes new bytes, allocates exactly one new array for the result
+ * and reads its operands in place.</p>
+ *
  * @since 0.1.0
  */
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
@@ -20,66 +25,79 @@ final class BytesRaw implements Bytes {
      */
     private final byte[] data;
 
+    /**
+     * Index of the first byte of the view.
+     */
+    private final int start;
+
+    /**
+     * Number of bytes in the view.
+     */
+    private final int length;
+
     /**
      * Ctor.
-     * @param data Data.
+     * @param data Data, which is not copied and must not be modified
      */
     BytesRaw(final byte[] data) {
-        this.data = Arrays.copyOf(data, data.length);
+        this(data, 0, data.length);
+    }
+
+    /**
+     * Ctor.
+     * @param data Data, which is not copied and must not be modified
+     * @param start Index of the first byte of the view
+     * @param length Number of bytes in the view
+     */
+    BytesRaw(final byte[] data, final int start, final int length) {
+        this.data = data;
+        this.start = start;
+        this.length = length;
     }
 
     @Override
     public Bytes not() {
-        final byte[] copy = this.take();
-        for (int index = 0; index < copy.length; index += 1) {
-            copy[index] = (byte) ~copy[index];
+        final byte[] result = new byte[this.length];
+        for (int index = 0; index < result.length; index += 1) {
+            result[index] = (byte) ~this.data[this.start + index];
         }
-        return new BytesOf(copy);
+        return new BytesOf(new BytesRaw(result));
     }
 
     @Override
     public Bytes and(final Bytes other) {
-        final byte[] first = this.take();
-        final byte[] second = other.take();
-        for (int index = 0; index < Math.min(first.length, second.length); index += 1) {
-            first[index] = (byte) (first[index] & second[index]);
+        final BytesRaw that = BytesRaw.viewOf(other);
+        final byte[] result = this.take();
+        for (int index = 0; index < Math.min(result.length, that.length); index += 1) {
+            result[index] = (byte) (result[index] & that.data[that.start + index]);
         }
-        return new BytesOf(first);
+        return new BytesOf(new BytesRaw(result));
     }
 
     @Override
     @SuppressWarnings("PMD.ShortMethodName")
     public Bytes or(final Bytes other) {
-        final byte[] first = this.take();
-        final byte[] second = other.take();
-        for (int index = 0; index < Math.min(first.length, second.length); index += 1) {
-            first[index] = (byte) (first[index] | second[index]);
+        final BytesRaw that = BytesRaw.viewOf(other);
+        final byte[] result = this.take();
+        for (int index = 0; index < Math.min(result.length, that.length); index += 1) {
+            result[index] = (byte) (result[index] | that.data[that.start + index]);
         }
-        return new BytesOf(first);
+        return new BytesOf(new BytesRaw(result));
     }
 
     @Override
     public Bytes xor(final Bytes other) {
-        final byte[] first = this.take();
-        final byte[] second = other.take();
-        for (int index = 0; index < Math.min(first.length, second.length); index += 1) {
-            first[index] = (byte) (first[index] ^ second[index]);
+        final BytesRaw that = BytesRaw.viewOf(other);
+        final byte[] result = this.take();
+        for (int index = 0; index < Math.min(result.length, that.length); index += 1) {
+            result[index] = (byte) (result[index] ^ that.data[that.start + index]);
         }
-        return new BytesOf(first);
+        return new BytesOf(new BytesRaw(result));
     }
 
     @Override
     public Bytes shift(final int bits) {
-        final byte[] bytes = this.take();
-        final int mod = Math.abs(bits) % Byte.SIZE;
-        final int offset = Math.abs(bits) / Byte.SIZE;
-        final Bytes shifted;
-        if (bits < 0) {
-            shifted = BytesRaw.shiftLeft(bytes, mod, offset);
-        } else {
-            shifted = BytesRaw.shiftRight(bytes, mod, offset);
-        }
-        return shifted;
+        return new BytesOf(new BytesRaw(this.shifted(bits)));
     }
 
     @Override
@@ -89,8 +107,8 @@ final class BytesRaw implements Bytes {
                 "The \"right shift\" is NYI"
             );
         }
-        final byte[] bytes = this.shift(bits).take();
-        if (this.take()[0] < 0) {
+        final byte[] bytes = this.shifted(bits);
+        if (this.length > 0 && this.data[this.start] < 0) {
             for (int index = 0; index < bytes.length; index += 1) {
                 final int zeros = BytesRaw.numberOfLeadingZeros(
                     bytes[index]
@@ -101,7 +119,7 @@ final class BytesRaw implements Bytes {
                 }
             }
         }
-        return new BytesOf(bytes);
+        return new BytesOf(new BytesRaw(bytes));
     }
 
     @Override
@@ -111,22 +129,22 @@ final class BytesRaw implements Bytes {
 
     @Override
     public <T extends Number> T asNumber(final Class<T> type) {
-        final byte[] ret = this.take();
         final Object res;
-        final ByteBuffer buf = ByteBuffer.wrap(ret);
         if (Long.class.equals(type)) {
-            res = BytesRaw.whenFit(buf, ret, Long.class).getLong();
+            res = this.bits(Long.class, Long.BYTES);
         } else if (Integer.class.equals(type)) {
-            res = BytesRaw.whenFit(buf, ret, Integer.class).getInt();
+            res = (int) this.bits(Integer.class, Integer.BYTES);
         } else if (Double.class.equals(type)) {
-            res = BytesRaw.whenFit(buf, ret, Double.class).getDouble();
+            res = Double.longBitsToDouble(
+                this.bits(Double.class, Double.BYTES)
+            );
         } else if (Short.class.equals(type)) {
-            res = BytesRaw.whenFit(buf, ret, Short.class).getShort();
+            res = (short) this.bits(Short.class, Short.BYTES);
         } else {
             throw new UnsupportedOperationException(
                 String.format(
                     "Can't convert %d bytes to \"%s\"",
-                    ret.length, type.getCanonicalName()
+                    this.length, type.getCanonicalName()
                 )
             );
         }
@@ -136,13 +154,13 @@ final class BytesRaw implements Bytes {
     @Override
     public String asString() {
         final StringBuilder out = new StringBuilder(0);
-        for (final byte bte : this.data) {
+        for (int index = this.start; index < this.start + this.length; index += 1) {
             if (out.length() > 0) {
                 out.append('-');
             }
-            out.append(String.format("%02X", bte));
+            out.append(String.format("%02X", this.data[index]));
         }
-        if (this.data.length == 0) {
+        if (this.length == 0) {
             out.append("--");
         }
         return out.toString();
@@ -150,12 +168,28 @@ final class BytesRaw implements Bytes {
 
     @Override
     public byte[] take() {
-        return Arrays.copyOf(this.data, this.data.length);
+        return Arrays.copyOfRange(this.data, this.start, this.start + this.length);
+    }
+
+    @Override
+    public Bytes slice(final int first, final int size) {
+        final Bytes slice;
+        if (first < 0 || size < 0 || first + size > this.length) {
+            slice = Bytes.super.slice(first, size);
+        } else {
+            slice = new BytesOf(new BytesRaw(this.data, this.start + first, size));
+        }
+        return slice;
+    }
+
+    @Override
+    public int size() {
+        return this.length;
     }
 
     @Override
     public String toString() {
-        return String.format("BytesOf{%s}", Arrays.toString(this.data));
+        return String.format("BytesOf{%s}", Arrays.toString(this.take()));
     }
 
     @Override
@@ -164,7 +198,11 @@ final class BytesRaw implements Bytes {
         if (this == other) {
             result = true;
         } else if (other instanceof Bytes) {
-            result = Arrays.equals(this.data, ((Bytes) other).take());
+            final BytesRaw that = BytesRaw.viewOf((Bytes) other);
+            result = Arrays.equals(
+                this.data, this.start, this.start + this.length,
+                that.data, that.start, that.start + that.length
+            );
         } else {
             result = false;
         }
@@ -173,7 +211,55 @@ final class BytesRaw implements Bytes {
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(this.data);
+        int hash = 1;
+        for (int index = this.start; index < this.start + this.length; index += 1) {
+            hash = 31 * hash + this.data[index];
+        }
+        return hash;
+    }
+
+    /**
+     * View of the bytes, without copying them, if possible.
+     * @param bytes The bytes
+     * @return The view
+     */
+    static BytesRaw viewOf(final Bytes bytes) {
+        final BytesRaw view;
+        if (bytes instanceof BytesRaw) {
+            view = (BytesRaw) bytes;
+        } else if (bytes instanceof BytesOf) {
+            view = ((BytesOf) bytes).view();
+        } else {
+            view = new BytesRaw(bytes.take());
+        }
+        return view;
+    }
+
+    /**
+     * Decode the bytes of the view into bits of a primitive.
+     * @param type The type to fit into
+     * @param size Exact number of bytes the type takes
+     * @return Bits of the primitive
+     */
+    private long bits(final Class<?> type, final int size) {
+        return BytesRaw.decoded(this.data, this.start, this.length, type, size);
+    }
+
+    /**
+     * Shift a copy of the bytes.
+     * @param bits Bits to shift, negative to shift left
+     * @return New array with shifted bytes
+     */
+    private byte[] shifted(final int bits) {
+        final byte[] bytes = this.take();
+        final int mod = Math.abs(bits) % Byte.SIZE;
+        final int offset = Math.abs(bits) / Byte.SIZE;
+        if (bits < 0) {
+            BytesRaw.shiftLeft(bytes, mod, offset);
+        } else {
+            BytesRaw.shiftRight(bytes, mod, offset);
+        }
+        return bytes;
     }
 
     /**
@@ -181,9 +267,8 @@ final class BytesRaw implements Bytes {
      * @param bytes Bytes
      * @param mod Mod
      * @param offset Offset
-     * @return Shifted bytes
      */
-    private static Bytes shiftLeft(final byte[] bytes, final int mod, final int offset) {
+    private static void shiftLeft(final byte[] bytes, final int mod, final int offset) {
         final byte carry = (byte) ((0x01 << mod) - 1);
         for (int index = 0; index < bytes.length; index += 1) {
             final int source = index + offset;
@@ -197,7 +282,6 @@ final class BytesRaw implements Bytes {
                 bytes[index] = dst;
             }
         }
-        return new BytesOf(bytes);
     }
 
     /**
@@ -205,9 +289,8 @@ final class BytesRaw implements Bytes {
      * @param bytes Bytes
      * @param mod Mod
      * @param offset Offset
-     * @return Shifted bytes
      */
-    private static Bytes shiftRight(final byte[] bytes, final int mod, final int offset) {
+    private static void shiftRight(final byte[] bytes, final int mod, final int offset) {
         final byte carry = (byte) (0xFF << (Byte.SIZE - mod));
         for (int index = bytes.length - 1; index >= 0; index -= 1) {
             final int source = index - offset;
@@ -221,7 +304,6 @@ final class BytesRaw implements Bytes {
                 bytes[index] = dst;
             }
         }
-        return new BytesOf(bytes);
     }
 
     /**
@@ -252,28 +334,56 @@ final class BytesRaw implements Bytes {
     }
 
     /**
-     * Checks the buffer for its validity.
-     * @param buf The buffer
+     * Encode a primitive into big-endian bytes.
+     * @param bits Bits of the primitive
+     * @param size Number of bytes to take, starting from the lowest one
+     * @return The bytes
+     */
+    static byte[] encoded(final long bits, final int size) {
+        final byte[] bytes = new byte[size];
+        long rest = bits;
+        for (int idx = size - 1; idx >= 0; --idx) {
+            bytes[idx] = (byte) rest;
+            rest >>= Byte.SIZE;
+        }
+        return bytes;
+    }
+
+    /**
+     * Decode big-endian bytes into bits of a primitive.
      * @param bytes The bytes
      * @param type The type to fit into
-     * @return The same buffer
+     * @param size Exact number of bytes the type takes
+     * @return Bits of the primitive, in the lowest bytes
      */
-    private static ByteBuffer whenFit(final ByteBuffer buf, final byte[] bytes,
-        final Class<?> type) {
-        final int expected;
-        try {
-            expected = type.getField("BYTES").getInt(null);
-        } catch (final NoSuchFieldException | IllegalAccessException ex) {
-            throw new IllegalArgumentException(ex);
-        }
-        if (bytes.length != expected) {
+    static long decoded(final byte[] bytes, final Class<?> type, final int size) {
+        return BytesRaw.decoded(bytes, 0, bytes.length, type, size);
+    }
+
+    /**
+     * Decode a region of big-endian bytes into bits of a primitive.
+     * @param bytes The bytes
+     * @param first Index of the first byte to decode
+     * @param total Number of bytes to decode
+     * @param type The type to fit into
+     * @param size Exact number of bytes the type takes
+     * @return Bits of the primitive, in the lowest bytes
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    static long decoded(final byte[] bytes, final int first, final int total,
+        final Class<?> type, final int size) {
+        if (total != size) {
             throw new ExFailure(
                 String.format(
                     "Can't convert %d bytes to %s, exactly %d bytes expected",
-                    bytes.length, type.getName(), expected
+                    total, type.getName(), size
                 )
             );
         }
-        return buf;
+        long bits = 0L;
+        for (int index = first; index < first + total; index += 1) {
+            bits = bits << Byte.SIZE | bytes[index] & 0xFF;
+        }
+        return bits;
     }
 }
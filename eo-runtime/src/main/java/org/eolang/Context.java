@@ -0,0 +1,182 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Runtime context, which owns the tree of packages of {@link Phi#Φ} and
+ * the state of atoms, like memory of {@code malloc} or open files.
+ *
+ * <p>Objects are dataized within some context. Many contexts may be used
+ * at the same time by different threads, and nothing of one of them is
+ * seen or locked by another one. A thread, which is not within any context,
+ * is within the global one, which is never closed.</p>
+ *
+ * <p>The context is not inherited by new threads: an atom, which
+ * dataizes objects in other threads, must do it within
+ * {@link #current()} of its own thread. When no context, except the
+ * global one, was ever entered, {@link #current()} doesn't touch any
+ * thread locals.</p>
+ *
+ * <p>Parts of the context, which are {@link Closeable}, like open files,
+ * are closed together with it.</p>
+ *
+ * <p>Objects write to the console of the process, unless the context has
+ * its own streams for the standard output and error, for example when a
+ * {@link Daemon} sends them back to its client.</p>
+ *
+ * @since 0.53
+ */
+public final class Context implements Closeable {
+    /**
+     * The global context.
+     */
+    private static final Context GLOBAL = new Context();
+
+    /**
+     * Contexts of threads.
+     */
+    private static final ThreadLocal<Context> CURRENT = ThreadLocal.withInitial(
+        () -> Context.GLOBAL
+    );
+
+    /**
+     * Was any context, except the global one, ever entered?
+     */
+    private static volatile boolean entered;
+
+    /**
+     * The global object of the context.
+     */
+    private final Phi global;
+
+    /**
+     * Parts of the context, by their types.
+     */
+    private final Map<Class<?>, Object> parts;
+
+    /**
+     * Streams of standard output and error, or empty, if objects write
+     * to the console of the process.
+     */
+    private final OutputStream[] console;
+
+    /**
+     * Ctor.
+     */
+    public Context() {
+        this(new OutputStream[0]);
+    }
+
+    /**
+     * Ctor.
+     * @param stdout Stream for the standard output of objects
+     * @param stderr Stream for the standard error of objects
+     */
+    public Context(final OutputStream stdout, final OutputStream stderr) {
+        this(new OutputStream[] {stdout, stderr});
+    }
+
+    /**
+     * Ctor.
+     * @param console Streams of standard output and error or empty array
+     */
+    private Context(final OutputStream... console) {
+        this.global = new PhPackage(PhPackage.GLOBAL);
+        this.parts = new ConcurrentHashMap<>(0);
+        this.console = console;
+    }
+
+    /**
+     * The context of the current thread.
+     * @return The context
+     */
+    public static Context current() {
+        final Context context;
+        if (Context.entered) {
+            context = Context.CURRENT.get();
+        } else {
+            context = Context.GLOBAL;
+        }
+        return context;
+    }
+
+    /**
+     * Do the action within this context.
+     * @param action The action
+     * @param <T> Type of the result
+     * @return The result of the action
+     */
+    public <T> T within(final Supplier<T> action) {
+        if (this != Context.GLOBAL) {
+            Context.entered = true;
+        }
+        final Context before = Context.current();
+        Context.CURRENT.set(this);
+        try {
+            return action.get();
+        } finally {
+            if (before == Context.GLOBAL) {
+                Context.CURRENT.remove();
+            } else {
+                Context.CURRENT.set(before);
+            }
+        }
+    }
+
+    /**
+     * The part of the context, made on the first request.
+     * @param type Type of the part
+     * @param make Makes the part
+     * @param <T> Type of the part
+     * @return The part
+     */
+    public <T> T part(final Class<T> type, final Supplier<T> make) {
+        return type.cast(this.parts.computeIfAbsent(type, key -> make.get()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this == Context.GLOBAL) {
+            throw new IllegalStateException("The global context can't be closed");
+        }
+        for (final Object part : this.parts.values()) {
+            if (part instanceof Closeable) {
+                ((Closeable) part).close();
+            }
+        }
+        this.parts.clear();
+    }
+
+    /**
+     * Stream of the standard output or error of objects.
+     * @param descriptor File descriptor: 1 for the output, 2 for the error
+     * @return The stream or NULL, if objects write to the console of
+     *  the process or the descriptor is not of the console
+     */
+    public OutputStream console(final int descriptor) {
+        final OutputStream stream;
+        if (this.console.length > 0 && (descriptor == 1 || descriptor == 2)) {
+            stream = this.console[descriptor - 1];
+        } else {
+            stream = null;
+        }
+        return stream;
+    }
+
+    /**
+     * The global object of this context.
+     * @return The object
+     */
+    Phi global() {
+        return this.global;
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Server, which keeps one JVM warm and dataizes objects by requests,
+ * coming through a local TCP socket.
+ *
+ * <p>Startup of JVM, loading of generated classes and JIT compilation take
+ * most of the time of short EO programs. The daemon pays for them only
+ * once.</p>
+ *
+ * <p>Since any local user may connect to the port, every request starts with
+ * the secret token of the daemon. The daemon issues the token on start and
+ * keeps it in a file, which only its owner can read, see
+ * {@link #issued(Path)}. Requests without the token are refused.</p>
+ *
+ * <p>A request is the token, the number of strings and the strings,
+ * written by {@link DataOutputStream#writeUTF(String)}: the name of the
+ * object and its arguments. A response is a sequence of frames, every one
+ * of which is its kind, the number of bytes and the bytes: what objects
+ * write to the standard output or error, while they are dataized, and,
+ * in the end, the result of dataization or the message of the error in
+ * UTF-8.</p>
+ *
+ * <p>Requests are served at the same time, every one in its own thread and
+ * in its own {@link Context}, so that a request never sees objects, memory
+ * or files of another one. What objects write to their console is sent to
+ * the client, which asked for them.</p>
+ *
+ * @since 0.53
+ * @checkstyle IllegalCatchCheck (300 lines)
+ */
+final class Daemon {
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(Daemon.class.getName());
+
+    /**
+     * Frame with the result of dataization.
+     */
+    private static final int RESULT = 0;
+
+    /**
+     * Frame with the standard output of objects.
+     */
+    private static final int STDOUT = 1;
+
+    /**
+     * Frame with the standard error of objects.
+     */
+    private static final int STDERR = 2;
+
+    /**
+     * Frame with the message of the failure.
+     */
+    private static final int FAILURE = -1;
+
+    /**
+     * Number of random bytes in a token.
+     */
+    private static final int ENTROPY = 32;
+
+    /**
+     * The socket to accept requests from.
+     */
+    private final ServerSocket socket;
+
+    /**
+     * The secret token, which clients must send.
+     */
+    private final byte[] token;
+
+    /**
+     * Ctor.
+     * @param socket The socket to accept requests from
+     * @param token The secret token, which clients must send
+     */
+    Daemon(final ServerSocket socket, final String token) {
+        this.socket = socket;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serve requests, until the socket is closed.
+     * @throws IOException If fails
+     */
+    void serve() throws IOException {
+        final ExecutorService threads = Executors.newCachedThreadPool();
+        try {
+            while (!this.socket.isClosed()) {
+                final Socket client;
+                try {
+                    client = this.socket.accept();
+                } catch (final SocketException ex) {
+                    if (this.socket.isClosed()) {
+                        break;
+                    }
+                    throw ex;
+                }
+                threads.execute(() -> this.answer(client));
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+
+    /**
+     * The file with the token of the daemon on the port, in the home
+     * directory of the user.
+     * @param port The port of the daemon
+     * @return The file
+     */
+    static Path secret(final int port) {
+        return Paths.get(
+            System.getProperty("user.home"), ".eo", "daemons", Integer.toString(port)
+        );
+    }
+
+    /**
+     * Bind the socket to the port on the loopback interface.
+     * @param port The port
+     * @return The socket, ready to accept requests
+     * @throws IOException If the port is busy
+     */
+    static ServerSocket bound(final int port) throws IOException {
+        return new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+    }
+
+    /**
+     * Issue a new random token and save it to the file, which only the
+     * owner can read and write, if the file system supports POSIX
+     * permissions. The file is deleted, when the JVM exits.
+     * @param file The file
+     * @return The token
+     * @throws IOException If fails
+     */
+    static String issued(final Path file) throws IOException {
+        final byte[] random = new byte[Daemon.ENTROPY];
+        new SecureRandom().nextBytes(random);
+        final StringBuilder token = new StringBuilder(random.length * 2);
+        for (final byte rnd : random) {
+            token.append(String.format("%02x", rnd));
+        }
+        final boolean posix = file.getFileSystem().supportedFileAttributeViews().contains("posix");
+        if (posix) {
+            Files.createDirectories(
+                file.getParent(),
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------"))
+            );
+        } else {
+            Files.createDirectories(file.getParent());
+        }
+        Files.deleteIfExists(file);
+        if (posix) {
+            Files.createFile(
+                file,
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))
+            );
+        } else {
+            Files.createFile(file);
+        }
+        file.toFile().deleteOnExit();
+        Files.write(file, token.toString().getBytes(StandardCharsets.UTF_8));
+        return token.toString();
+    }
+
+    /**
+     * Read the token, which the daemon issued.
+     * @param file The file with the token
+     * @return The token
+     * @throws IOException If fails
+     */
+    static String token(final Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new ExFailure(
+                "There is no token of the daemon in %s, is the daemon running?", file
+            );
+        }
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Ask the daemon to dataize an object.
+     * @param port The port of the daemon on the loopback interface
+     * @param token The secret token of the daemon
+     * @param opts The name of the object and its arguments
+     * @param stdout Where to write the standard output of objects
+     * @param stderr Where to write the standard error of objects
+     * @return The result of dataization
+     * @throws IOException If fails to talk to the daemon
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    static byte[] ask(final int port, final String token, final List<String> opts,
+        final OutputStream stdout, final OutputStream stderr) throws IOException {
+        try (Socket server = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            final DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(server.getOutputStream())
+            );
+            output.writeUTF(token);
+            output.writeInt(opts.size());
+            for (final String opt : opts) {
+                output.writeUTF(opt);
+            }
+            output.flush();
+            final DataInputStream input = new DataInputStream(
+                new BufferedInputStream(server.getInputStream())
+            );
+            byte[] result = null;
+            while (result == null) {
+                final int kind = input.readInt();
+                final byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                if (kind == Daemon.STDOUT) {
+                    stdout.write(bytes);
+                    stdout.flush();
+                } else if (kind == Daemon.STDERR) {
+                    stderr.write(bytes);
+                    stderr.flush();
+                } else if (kind == Daemon.RESULT) {
+                    result = bytes;
+                } else {
+                    throw new ExFailure("%s", new String(bytes, StandardCharsets.UTF_8));
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Answer one request and close the socket.
+     * @param client The socket of the client
+     */
+    private void answer(final Socket client) {
+        try (Socket open = client) {
+            final DataInputStream input = new DataInputStream(
+                new BufferedInputStream(open.getInputStream())
+            );
+            final DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(open.getOutputStream())
+            );
+            if (MessageDigest.isEqual(
+                this.token, input.readUTF().getBytes(StandardCharsets.UTF_8)
+            )) {
+                final int count = input.readInt();
+                final List<String> opts = new ArrayList<>(count);
+                for (int idx = 0; idx < count; ++idx) {
+                    opts.add(input.readUTF());
+                }
+                Daemon.dataize(opts, output);
+            } else {
+                Daemon.send(
+                    output, Daemon.FAILURE,
+                    "The token is wrong, the request is refused".getBytes(StandardCharsets.UTF_8)
+                );
+            }
+        } catch (final IOException ex) {
+            Daemon.LOGGER.log(Level.WARNING, "Failed to answer the client", ex);
+        }
+    }
+
+    /**
+     * Dataize the object and send its console and the result to the client.
+     * @param opts The name of the object and its arguments
+     * @param output Output to the client
+     * @throws IOException If fails
+     */
+    private static void dataize(final List<String> opts, final DataOutputStream output)
+        throws IOException {
+        int kind = Daemon.FAILURE;
+        byte[] bytes;
+        try (Context context = new Context(
+            new Daemon.Frames(output, Daemon.STDOUT),
+            new Daemon.Frames(output, Daemon.STDERR)
+        )) {
+            bytes = context.within(() -> new Dataized(Main.app(opts)).take());
+            kind = Daemon.RESULT;
+        } catch (final RuntimeException ex) {
+            bytes = Daemon.message(ex);
+        }
+        Daemon.send(output, kind, bytes);
+    }
+
+    /**
+     * Send one frame to the client.
+     * @param output Output to the client
+     * @param kind Kind of the frame
+     * @param bytes The bytes
+     * @throws IOException If fails
+     */
+    private static void send(final DataOutputStream output, final int kind,
+        final byte[] bytes) throws IOException {
+        synchronized (output) {
+            output.writeInt(kind);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+            output.flush();
+        }
+    }
+
+    /**
+     * Messages of the exception and all its causes, one per line.
+     * @param thr The exception
+     * @return The messages in UTF-8
+     */
+    private static byte[] message(final Throwable thr) {
+        final List<String> lines = new ArrayList<>(1);
+        Throwable cause = thr;
+        while (cause != null) {
+            lines.add(String.valueOf(cause.getMessage()));
+            cause = cause.getCause();
+        }
+        return String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Console of objects, which sends what they write to the client,
+     * frame by frame.
+     *
+     * @since 0.53
+     */
+    private static final class Frames extends OutputStream {
+        /**
+         * Output to the client.
+         */
+        private final DataOutputStream output;
+
+        /**
+         * Kind of frames.
+         */
+        private final int kind;
+
+        /**
+         * Ctor.
+         * @param output Output to the client
+         * @param kind Kind of frames
+         */
+        Frames(final DataOutputStream output, final int kind) {
+            super();
+            this.output = output;
+            this.kind = kind;
+        }
+
+        @Override
+        public void write(final int bte) throws IOException {
+            this.write(new byte[] {(byte) bte}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int off, final int len) throws IOException {
+            Daemon.send(this.output, this.kind, Arrays.copyOfRange(bytes, off, off + len));
+        }
+    }
+}
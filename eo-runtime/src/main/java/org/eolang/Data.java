@@ -6,6 +6,10 @@
 package org.eolang;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 
 /**
  * A data container.
@@ -38,6 +42,16 @@ public interface Data {
      * @since 0.1
      */
     final class ToPhi implements Phi {
+        /**
+         * Smallest integer number, which is interned.
+         */
+        private static final int SMALLEST = -128;
+
+        /**
+         * Largest integer number, which is interned.
+         */
+        private static final int LARGEST = 1024;
+
         /**
          * Phi object.
          */
@@ -106,8 +120,25 @@ public interface Data {
             return this.object.delta();
         }
 
+        /**
+         * The object, whose Δ is the Δ of this one.
+         * @return The object
+         */
+        Phi next() {
+            return this.object;
+        }
+
         /**
          * Convert to Phi object.
+         *
+         * <p>Objects of {@code org.eolang} are taken from the package only
+         * once and then copied. Booleans, special numbers, small integer
+         * numbers, empty bytes, empty strings and empty tuples are made
+         * only once and then returned as they are, since they can't be
+         * modified: all their void attributes are already set. They are
+         * kept by the {@link Context}, since they are made of its
+         * packages.</p>
+         *
          * @param obj Object to convert
          * @return Constructed Phi
          * @checkstyle CyclomaticComplexityCheck (100 lines)
@@ -115,42 +146,54 @@ public interface Data {
         @SuppressWarnings("PMD.CognitiveComplexity")
         private static Phi toPhi(final Object obj) {
             final Phi phi;
-            final Phi eolang = Phi.Φ.take("org").take("eolang");
             if (obj instanceof Boolean) {
                 if (obj.equals(true)) {
-                    phi = eolang.take("true");
+                    phi = Data.ToPhi.prototype("true");
                 } else {
-                    phi = eolang.take("false");
+                    phi = Data.ToPhi.prototype("false");
                 }
             } else if (obj instanceof Phi[]) {
-                Phi tuple = eolang.take("tuple").take("empty");
-                for (final Phi element : (Phi[]) obj) {
-                    tuple = tuple.take("with");
-                    tuple.put(0, element);
+                final Phi[] elements = (Phi[]) obj;
+                final Phi empty = Data.ToPhi.constant(
+                    "tuple.empty", () -> Data.ToPhi.prototype("tuple").take("empty")
+                );
+                if (elements.length == 0) {
+                    phi = empty;
+                } else {
+                    Phi tuple = empty.copy();
+                    for (final Phi element : elements) {
+                        tuple = tuple.take("with");
+                        tuple.put(0, element);
+                    }
+                    phi = tuple;
                 }
-                phi = tuple;
             } else if (obj instanceof byte[]) {
-                phi = eolang.take("bytes").copy();
-                phi.put(0, new PhDefault((byte[]) obj));
+                final byte[] bytes = (byte[]) obj;
+                if (bytes.length == 0) {
+                    phi = Data.ToPhi.constant("bytes.empty", () -> Data.ToPhi.bytes(bytes));
+                } else {
+                    phi = Data.ToPhi.bytes(bytes);
+                }
             } else if (obj instanceof Number) {
                 final double value = ((Number) obj).doubleValue();
                 if (Double.isNaN(value)) {
-                    phi = eolang.take("nan");
+                    phi = Data.ToPhi.prototype("nan");
                 } else if (value == Double.POSITIVE_INFINITY) {
-                    phi = eolang.take("positive-infinity");
+                    phi = Data.ToPhi.prototype("positive-infinity");
                 } else if (value == Double.NEGATIVE_INFINITY) {
-                    phi = eolang.take("negative-infinity");
+                    phi = Data.ToPhi.prototype("negative-infinity");
+                } else if (Data.ToPhi.isSmall(value)) {
+                    phi = Data.ToPhi.small((int) value);
                 } else {
-                    phi = eolang.take("number").copy();
-                    final Phi bts = eolang.take("bytes").copy();
-                    bts.put(0, new PhDefault(new BytesOf(value).take()));
-                    phi.put(0, bts);
+                    phi = Data.ToPhi.number(value);
                 }
             } else if (obj instanceof String) {
-                phi = eolang.take("string").copy();
-                final Phi bts = eolang.take("bytes").copy();
-                bts.put(0, new PhDefault(((String) obj).getBytes(StandardCharsets.UTF_8)));
-                phi.put(0, bts);
+                final byte[] bytes = ((String) obj).getBytes(StandardCharsets.UTF_8);
+                if (bytes.length == 0) {
+                    phi = Data.ToPhi.constant("string.empty", () -> Data.ToPhi.string(bytes));
+                } else {
+                    phi = Data.ToPhi.string(bytes);
+                }
             } else {
                 throw new IllegalArgumentException(
                     String.format(
@@ -161,5 +204,121 @@ public interface Data {
             }
             return phi;
         }
+
+        /**
+         * Make {@code bytes}.
+         * @param data The data
+         * @return Bytes
+         */
+        private static Phi bytes(final byte[] data) {
+            final Phi phi = Data.ToPhi.prototype("bytes").copy();
+            phi.put(0, new PhDefault(data));
+            return phi;
+        }
+
+        /**
+         * Make {@code number}.
+         * @param value The value
+         * @return Number
+         */
+        private static Phi number(final double value) {
+            final Phi phi = Data.ToPhi.prototype("number").copy();
+            phi.put(0, Data.ToPhi.bytes(new BytesOf(value).take()));
+            return phi;
+        }
+
+        /**
+         * Make {@code string}.
+         * @param data The data in UTF-8
+         * @return String
+         */
+        private static Phi string(final byte[] data) {
+            final Phi phi = Data.ToPhi.prototype("string").copy();
+            phi.put(0, Data.ToPhi.bytes(data));
+            return phi;
+        }
+
+        /**
+         * Is it an integer number, which is interned?
+         * @param value The value
+         * @return TRUE if it is
+         */
+        private static boolean isSmall(final double value) {
+            return value >= Data.ToPhi.SMALLEST && value <= Data.ToPhi.LARGEST
+                && value == Math.rint(value)
+                && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0);
+        }
+
+        /**
+         * Interned integer number.
+         * @param value The value, which must be small
+         * @return Number
+         */
+        private static Phi small(final int value) {
+            final AtomicReferenceArray<Phi> numbers = Data.ToPhi.interned().numbers;
+            final int idx = value - Data.ToPhi.SMALLEST;
+            Phi phi = numbers.get(idx);
+            if (phi == null) {
+                numbers.compareAndSet(idx, null, Data.ToPhi.number(value));
+                phi = numbers.get(idx);
+            }
+            return phi;
+        }
+
+        /**
+         * Interned constant.
+         * @param name Unique name of the constant
+         * @param make Makes the constant, if it's not interned yet
+         * @return The constant
+         */
+        private static Phi constant(final String name, final Supplier<Phi> make) {
+            final Map<String, Phi> cached = Data.ToPhi.interned().cached;
+            Phi phi = cached.get(name);
+            if (phi == null) {
+                cached.putIfAbsent(name, make.get());
+                phi = cached.get(name);
+            }
+            return phi;
+        }
+
+        /**
+         * Object of {@code org.eolang}, taken from the package only once,
+         * which must be copied, if it has void attributes.
+         * @param name Name of the object, e.g. "number"
+         * @return The object
+         */
+        private static Phi prototype(final String name) {
+            return Data.ToPhi.constant(
+                name, () -> Phi.Φ.take("org").take("eolang").take(name)
+            );
+        }
+
+        /**
+         * Interned objects of the current context.
+         * @return The objects
+         */
+        private static Interned interned() {
+            return Context.current().part(Interned.class, Interned::new);
+        }
+
+        /**
+         * Interned objects of one context.
+         *
+         * @since 0.53
+         */
+        private static final class Interned {
+            /**
+             * Objects of {@code org.eolang}, like "number", and interned
+             * constants, like "bytes.empty", by names.
+             */
+            private final Map<String, Phi> cached = new ConcurrentHashMap<>(0);
+
+            /**
+             * Interned small integer numbers.
+             */
+            private final AtomicReferenceArray<Phi> numbers = new AtomicReferenceArray<>(
+                Data.ToPhi.LARGEST - Data.ToPhi.SMALLEST + 1
+            );
+        }
     }
 }
@@ -28,6 +28,16 @@ import java.util.logging.Logger;
  */
 @SuppressWarnings("java:S5164")
 public final class Dataized {
+    /**
+     * Forma of the jump of {@code go.to}, which is not an error to report.
+     */
+    static final String JUMP = String.format("%s.org.eolang.go.to.token.jump", PhPackage.GLOBAL);
+
+    /**
+     * Engine of dataization, for all objects.
+     */
+    private static Engine engine = Phi::delta;
+
     /**
      * The object to datarize.
      */
@@ -56,6 +66,15 @@ public final class Dataized {
         this.logger = log;
     }
 
+    /**
+     * Select the engine of dataization.
+     * @param eng The engine
+     * @since 0.53
+     */
+    public static void use(final Engine eng) {
+        Dataized.engine = eng;
+    }
+
     /**
      * Extracts the data from the EO object as a byte array.
      *
@@ -75,43 +94,27 @@ public final class Dataized {
      *
      * @return The data
      */
-    @SuppressWarnings("PMD.PreserveStackTrace")
     public byte[] take() {
-        try {
-            return this.phi.delta();
-        } catch (final EOerror.ExError ex) {
-            final List<String> raw = new ArrayList<>(ex.messages().size());
-            raw.addAll(ex.messages());
-            Collections.reverse(raw);
-            final Phi enc = ex.enclosure();
-            if ("org.eolang.go.to.token.jump".equals(enc.forma())) {
-                throw new EOerror.ExError(enc);
-            }
-            if (String.format("%s.org.eolang.string", PhPackage.GLOBAL).equals(enc.forma())) {
-                raw.add(
-                    String.format(
-                        "\"%s\"",
-                        new Dataized(enc).take(String.class)
-                    )
-                );
-            }
-            final String fmt = String.format("%%%dd) %%s", (int) Math.log10(raw.size()) + 1);
-            final List<String> clean = new ArrayList<>(raw.size());
-            int idx = 1;
-            for (final String line : raw) {
-                clean.add(String.format(fmt, idx, line));
-                ++idx;
+        final Recorded.Dataization event = new Recorded.Dataization();
+        final byte[] bytes;
+        if (event.isEnabled()) {
+            event.begin();
+            bytes = this.delta();
+            if (event.shouldCommit()) {
+                event.forma = this.phi.forma();
+                event.bytes = bytes.length;
+                event.commit();
             }
-            this.logger.log(
-                Level.SEVERE,
-                String.format(
-                    "Dataized to org.eolang.error with %s inside, at:%n  ⇢ %s",
-                    enc.forma(),
-                    String.join("\n  ⇢ ", clean)
-                )
-            );
-            throw new EOerror.ExError(enc);
+        } else {
+            bytes = this.delta();
+        }
+        final Statistics stats = Statistics.current();
+        if (stats != null) {
+            final Statistics.Counters counters = stats.of(this.phi.forma());
+            counters.dataizations.increment();
+            counters.bytes.add(bytes.length);
         }
+        return bytes;
     }
 
     /**
@@ -123,13 +126,13 @@ public final class Dataized {
     public <T> T take(final Class<T> type) {
         final Object res;
         if (type.equals(Long.class)) {
-            res = new BytesOf(this.take()).asNumber(Long.class);
+            res = this.asLong();
         } else if (type.equals(Double.class)) {
-            res = this.asNumber();
+            res = this.asDouble();
         } else if (type.equals(Integer.class)) {
-            res = new BytesOf(this.take()).asNumber(Integer.class);
+            res = (int) this.bits(Integer.class, Integer.BYTES);
         } else if (type.equals(Short.class)) {
-            res = new BytesOf(this.take()).asNumber(Short.class);
+            res = (short) this.bits(Short.class, Short.BYTES);
         } else if (type.equals(byte[].class)) {
             res = this.take();
         } else if (type.equals(String.class)) {
@@ -161,7 +164,41 @@ public final class Dataized {
      * @return Data as number
      */
     public Double asNumber() {
-        return new BytesOf(this.take()).asNumber();
+        return this.asDouble();
+    }
+
+    /**
+     * Extract the data from the object and convert to primitive number.
+     *
+     * <p>If the object is, or wraps, a {@link PhNumber}, its value is
+     * returned as is, otherwise exactly eight bytes are decoded.</p>
+     *
+     * @return Data as number
+     */
+    public double asDouble() {
+        final Object found = this.carried();
+        final double num;
+        if (found instanceof PhNumber) {
+            num = ((PhNumber) found).primitive();
+        } else {
+            num = Double.longBitsToDouble(
+                Dataized.decoded(found, Double.class, Double.BYTES)
+            );
+        }
+        return num;
+    }
+
+    /**
+     * Extract the data from the object and convert to primitive integer.
+     *
+     * <p>If the object is, or wraps, a {@link PhInteger} of {@code i64},
+     * its value is returned as is, otherwise exactly eight bytes are
+     * decoded.</p>
+     *
+     * @return Data as integer
+     */
+    public long asLong() {
+        return this.bits(Long.class, Long.BYTES);
     }
 
     /**
@@ -179,11 +216,148 @@ public final class Dataized {
         return weak[0] == 1;
     }
 
+    /**
+     * Take bits of a primitive, which occupies exactly the given number of bytes.
+     * @param type The type of the primitive
+     * @param size Number of bytes
+     * @return Bits, in the lowest bytes
+     */
+    private long bits(final Class<?> type, final int size) {
+        final Object found = this.carried();
+        final long bits;
+        if (found instanceof PhInteger && ((PhInteger) found).size() == size) {
+            bits = ((PhInteger) found).primitive();
+        } else {
+            bits = Dataized.decoded(found, type, size);
+        }
+        return bits;
+    }
+
+    /**
+     * Take the data or the object, which carries it as a primitive.
+     *
+     * <p>The objects, which the object wraps, are passed by one by one,
+     * the way {@link EnTrampoline} does it, until the one, which either
+     * has the data or carries a primitive, like {@link PhNumber}. When the
+     * profiler, the statistics or the recording of dataizations is on,
+     * the data is taken by {@link #take()}, in order to be seen by them.</p>
+     *
+     * @return Bytes or the object, which carries a primitive
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private Object carried() {
+        final Object found;
+        if (Profiling.isStarted() || Statistics.current() != null
+            || new Recorded.Dataization().isEnabled()) {
+            found = this.take();
+        } else {
+            try {
+                found = EnTrampoline.reached(this.phi, Dataized::primitive);
+            } catch (final EOerror.ExError ex) {
+                throw this.reported(ex);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The object, if it carries a primitive, or its data.
+     * @param obj The object, which has the data
+     * @return The object or bytes
+     */
+    private static Object primitive(final Phi obj) {
+        final Object found;
+        if (obj instanceof PhNumber || obj instanceof PhInteger) {
+            found = obj;
+        } else {
+            found = obj.delta();
+        }
+        return found;
+    }
+
+    /**
+     * Decode bits of a primitive.
+     * @param found Bytes or the object, which carries a primitive
+     * @param type The type of the primitive
+     * @param size Number of bytes
+     * @return Bits, in the lowest bytes
+     */
+    private static long decoded(final Object found, final Class<?> type, final int size) {
+        final byte[] bytes;
+        if (found instanceof Phi) {
+            bytes = ((Phi) found).delta();
+        } else {
+            bytes = (byte[]) found;
+        }
+        return BytesRaw.decoded(bytes, type, size);
+    }
+
     /**
      * Extract the data from the object and convert to {@link Bytes}.
+     *
+     * <p>The data is not copied: the {@link Bytes} is a view of the array
+     * returned by {@link Phi#delta()}, which is never modified.</p>
+     *
      * @return Data as {@link Bytes}
      */
     public Bytes asBytes() {
-        return new BytesOf(this.take());
+        return new BytesOf(new BytesRaw(this.take()));
+    }
+
+    /**
+     * Take the data with the engine.
+     * @return The data
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    private byte[] delta() {
+        try {
+            return Dataized.engine.delta(this.phi);
+        } catch (final EOerror.ExError ex) {
+            throw this.reported(ex);
+        }
+    }
+
+    /**
+     * Report the error, unless it's the jump of {@code go.to}.
+     * @param ex The error
+     * @return The error to throw, without the messages already reported
+     */
+    private EOerror.ExError reported(final EOerror.ExError ex) {
+        final Phi enc = ex.enclosure();
+        if (!Dataized.JUMP.equals(enc.forma()) && this.logger.isLoggable(Level.SEVERE)) {
+            this.logger.log(Level.SEVERE, Dataized.report(ex));
+        }
+        return new EOerror.ExError(enc);
+    }
+
+    /**
+     * Render the error, with all messages seen on its way out.
+     * @param ex The error
+     * @return The report
+     */
+    private static String report(final EOerror.ExError ex) {
+        final List<String> raw = new ArrayList<>(ex.messages());
+        Collections.reverse(raw);
+        final Phi enc = ex.enclosure();
+        if (String.format("%s.org.eolang.string", PhPackage.GLOBAL).equals(enc.forma())) {
+            raw.add(
+                String.format(
+                    "\"%s\"",
+                    new Dataized(enc).take(String.class)
+                )
+            );
+        }
+        final String fmt = String.format("%%%dd) %%s", (int) Math.log10(raw.size()) + 1);
+        final List<String> clean = new ArrayList<>(raw.size());
+        int idx = 1;
+        for (final String line : raw) {
+            clean.add(String.format(fmt, idx, line));
+            ++idx;
+        }
+        return String.format(
+            "Dataized to org.eolang.error with %s inside, at:%n  ⇢ %s",
+            enc.forma(),
+            String.join("\n  ⇢ ", clean)
+        );
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import EOorg.EOeolang.EOerror;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+
+/**
+ * Engine of dataization, which doesn't go down the Java stack, while
+ * it moves from an object to its \phi, to the result of its λ, or to the
+ * object it wraps.
+ *
+ * <p>Recursive EO objects, like {@code seq.loop} or {@code rec-length}
+ * of {@code string}, have the next level of recursion in \phi or in the
+ * branch returned by {@code if}. With {@link Phi#delta()} every level
+ * takes a few Java frames, which are released only when the data is
+ * found at the bottom. This engine moves from one object to the next one
+ * in a loop, keeping pending {@link PhSafe} objects in a stack on the
+ * heap, in order to wrap an error the same way their own {@link PhSafe#delta()}
+ * would do.</p>
+ *
+ * <p>Objects, which are dataized by atoms, like the arguments of
+ * {@code number.plus}, are still dataized from inside the Java code of
+ * the atom, going one level down the Java stack.</p>
+ *
+ * @since 0.53
+ */
+public final class EnTrampoline implements Engine {
+
+    @Override
+    public byte[] delta(final Phi phi) {
+        return EnTrampoline.reached(phi, Phi::delta);
+    }
+
+    /**
+     * Move from object to object, until the one with the data, and
+     * take what is needed from it, wrapping an error the same way
+     * {@link #delta(Phi)} does.
+     * @param phi The object to start from
+     * @param action Takes what is needed from the object with the data
+     * @param <T> Type of the result
+     * @return The result of the action
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    static <T> T reached(final Phi phi, final Function<Phi, T> action) {
+        final Deque<PhSafe> pending = new ArrayDeque<>(0);
+        try {
+            return action.apply(EnTrampoline.bounced(phi, pending));
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Throwable ex) {
+            if (pending.isEmpty()) {
+                throw ex;
+            }
+            EOerror.ExError error = pending.pop().failed(ex);
+            while (!pending.isEmpty()) {
+                error = pending.pop().failed(error);
+            }
+            throw error;
+        }
+    }
+
+    /**
+     * Move from object to object, until the one with the data.
+     * @param phi The object to start from
+     * @param pending Stack of safe objects passed by
+     * @return The object, whose Δ must be taken from it
+     */
+    private static Phi bounced(final Phi phi, final Deque<PhSafe> pending) {
+        Phi current = phi;
+        Phi next = EnTrampoline.next(current, pending);
+        while (next != null) {
+            current = next;
+            next = EnTrampoline.next(current, pending);
+        }
+        return current;
+    }
+
+    /**
+     * The object, whose Δ is the Δ of this one.
+     * @param phi The object
+     * @param pending Stack of safe objects passed by
+     * @return The next object or NULL if the Δ must be taken from this one
+     */
+    private static Phi next(final Phi phi, final Deque<PhSafe> pending) {
+        final Phi next;
+        if (phi instanceof PhDefault) {
+            next = ((PhDefault) phi).next();
+        } else if (phi instanceof PhOnce) {
+            next = ((PhOnce) phi).next();
+        } else if (phi instanceof Data.ToPhi) {
+            next = ((Data.ToPhi) phi).next();
+        } else if (phi instanceof PhSafe) {
+            pending.push((PhSafe) phi);
+            next = ((PhSafe) phi).next();
+        } else {
+            next = null;
+        }
+        return next;
+    }
+}
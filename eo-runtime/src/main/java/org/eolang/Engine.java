@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+/**
+ * Engine of dataization, which takes the Δ of an object.
+ *
+ * <p>The engine is used by {@link Dataized} for all objects. It must be
+ * selected at startup, by {@link Dataized#use(Engine)}, before objects are
+ * dataized, for example by {@link Main} with the {@code --trampoline}
+ * option. By default, {@link Phi#delta()} is called, which goes down
+ * the Java stack, one or more frames for every \phi and λ on the way.</p>
+ *
+ * @since 0.53
+ */
+public interface Engine {
+    /**
+     * Take the Δ of the object.
+     * @param phi The object
+     * @return The data
+     */
+    byte[] delta(Phi phi);
+}
@@ -44,4 +44,19 @@ public abstract class ExAbstract extends RuntimeException {
     public ExAbstract(final Throwable root) {
         super(root);
     }
+
+    /**
+     * Ctor.
+     *
+     * <p>The exception made by this constructor doesn't fill in its stack
+     * trace, which makes it much cheaper, if it is thrown often and
+     * rarely printed.</p>
+     *
+     * @param cause Exception cause
+     * @param stack Fill in the stack trace or not
+     * @since 0.53
+     */
+    protected ExAbstract(final String cause, final boolean stack) {
+        super(cause, null, false, stack);
+    }
 }
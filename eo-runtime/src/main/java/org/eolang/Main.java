@@ -8,7 +8,10 @@ package org.eolang;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.net.ServerSocket;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -58,6 +61,7 @@ public final class Main {
         Main.setup();
         final List<String> opts = new ArrayList<>(args.length);
         opts.addAll(Arrays.asList(args));
+        int port = 0;
         while (!opts.isEmpty()) {
             final String opt = opts.get(0);
             if (Main.parse(opt)) {
@@ -66,6 +70,9 @@ public final class Main {
             if (!opt.startsWith("--")) {
                 break;
             }
+            if (opt.startsWith("--connect=")) {
+                port = Integer.parseInt(opt.substring(opt.indexOf('=') + 1));
+            }
             opts.remove(0);
         }
         Main.LOGGER.log(Level.FINE, String.format("EOLANG Runtime %s", Main.version()));
@@ -74,14 +81,41 @@ public final class Main {
                 "The name of an object is expected as a command line argument"
             );
         }
+        if (port == 0) {
+            new Preload(Main.class.getClassLoader()).start();
+        }
         try {
-            Main.run(opts);
+            Main.run(opts, port);
         } catch (final ExAbstract ex) {
             Main.print(ex);
             System.exit(1);
         }
     }
 
+    /**
+     * Make the application object.
+     * @param opts The name of the object and its arguments
+     * @return The object to dataize
+     */
+    static Phi app(final List<String> opts) {
+        final String obj = opts.get(0);
+        if (obj.isEmpty()) {
+            throw new IllegalArgumentException(
+                "The name of the object is an empty string, why?"
+            );
+        }
+        final Phi app = Phi.Φ.take(obj);
+        if (opts.size() > 1) {
+            Phi args = Phi.Φ.take("org.eolang.tuple").take("empty");
+            for (int idx = 1; idx < opts.size(); ++idx) {
+                args = args.take("with");
+                args.put(0, new Data.ToPhi(opts.get(idx)));
+            }
+            app.put(0, args);
+        }
+        return app;
+    }
+
     /**
      * Print exception line.
      *
@@ -124,8 +158,30 @@ public final class Main {
             for (final Handler hnd : Main.EOLOG.getHandlers()) {
                 hnd.setLevel(Level.FINE);
             }
+            Tracing.install(new TrLogged());
+        }
+        if ("--trampoline".equals(opt)) {
+            Dataized.use(new EnTrampoline());
+        }
+        if ("--stats".equals(opt)) {
+            Statistics.install(new Statistics());
+        }
+        if (opt.startsWith("--profile=")) {
+            Profiling.start(Paths.get(opt.substring(opt.indexOf('=') + 1)), 10L);
         }
         boolean exit = false;
+        if (opt.startsWith("--daemon=")) {
+            final int port = Integer.parseInt(opt.substring(opt.indexOf('=') + 1));
+            final ServerSocket socket = Daemon.bound(port);
+            final Path secret = Daemon.secret(port);
+            final String token = Daemon.issued(secret);
+            Main.LOGGER.info(
+                String.format("Serving requests on port %d, the token is in %s", port, secret)
+            );
+            new Preload(Main.class.getClassLoader()).start();
+            new Daemon(socket, token).serve();
+            exit = true;
+        }
         if ("--version".equals(opt)) {
             Main.LOGGER.info(Main.version());
             exit = true;
@@ -138,9 +194,19 @@ public final class Main {
                     "  class: Name of EO class, e.g. \"org.eolang.io.stdio\"",
                     "  argument: Value that will be wrapped as strings and passed to your EO object",
                     "  options:",
-                    "    --help     Print this documentation and exit",
-                    "    --version  Print the version of this JAR and exit",
-                    "    --verbose  Print all intermediate dataization results"
+                    "    --help          Print this documentation and exit",
+                    "    --version       Print the version of this JAR and exit",
+                    "    --verbose       Print all intermediate dataization results",
+                    "    --trampoline    Dataize recursive objects in a loop, not on the Java stack",
+                    "    --stats         Print counters of copies, attributes taken, dataizations,",
+                    "                    λ calls and bytes of all formas, when the program finishes",
+                    "    --profile=FILE  Sample EO objects being dataized and save the profile",
+                    "                    to the file in collapsed-stack format, for flame graphs",
+                    "    --daemon=PORT   Keep this JVM warm and dataize objects, requested through",
+                    "                    the local TCP port, concurrently, each in its own context;",
+                    "                    only the owner of ~/.eo/daemons/PORT may send requests",
+                    "    --connect=PORT  Ask the daemon on the local TCP port to dataize the object,",
+                    "                    printing its output here"
                 )
             );
             exit = true;
@@ -151,26 +217,21 @@ public final class Main {
     /**
      * Run this opts.
      * @param opts The opts left
+     * @param port The port of the daemon to ask, or zero to dataize here
      * @throws Exception If fails
      */
-    private static void run(final List<String> opts) throws Exception {
-        final String obj = opts.get(0);
-        if (obj.isEmpty()) {
-            throw new IllegalArgumentException(
-                "The name of the object is an empty string, why?"
-            );
-        }
-        final Phi app = Phi.Φ.take(obj);
-        if (opts.size() > 1) {
-            Phi args = Phi.Φ.take("org.eolang.tuple").take("empty");
-            for (int idx = 1; idx < opts.size(); ++idx) {
-                args = args.take("with");
-                args.put(0, new Data.ToPhi(opts.get(idx)));
+    private static void run(final List<String> opts, final int port) throws Exception {
+        final long start = System.currentTimeMillis();
+        final byte[] ret;
+        if (port == 0) {
+            try (Context context = new Context()) {
+                ret = context.within(() -> new Dataized(Main.app(opts)).take());
             }
-            app.put(0, args);
+        } else {
+            ret = Daemon.ask(
+                port, Daemon.token(Daemon.secret(port)), opts, System.out, System.err
+            );
         }
-        final long start = System.currentTimeMillis();
-        final byte[] ret = new Dataized(app).take();
         Main.LOGGER.info(
             String.format(
                 "%n---%n%s%nFinished in %.02fs (%d bytes)",
@@ -179,6 +240,10 @@ public final class Main {
                 ret.length
             )
         );
+        final Statistics stats = Statistics.current();
+        if (stats != null) {
+            Main.LOGGER.info(String.format("%n%s", stats.table()));
+        }
     }
 
     /**
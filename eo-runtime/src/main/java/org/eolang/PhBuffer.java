@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import java.util.Arrays;
+
+/**
+ * Data of EO {@code bytes}, which grows by appending.
+ *
+ * <p>Appending doesn't copy the bytes, which are already here. All objects
+ * of the same chain of appends share one chunk of memory, which grows
+ * twice when it's full, while every object remembers how many bytes of it
+ * belong to it. That's why building {@code n} bytes by appending takes
+ * {@code O(n)} time, not {@code O(n²)}. If some object of the chain is
+ * appended twice, the second append copies its bytes to a new chunk.</p>
+ *
+ * <p>The bytes are made contiguous only when {@link #delta()} is called,
+ * and only once for every object.</p>
+ *
+ * @since 0.53
+ */
+public final class PhBuffer extends PhOnce {
+    /**
+     * The chunk, shared with other objects of the chain.
+     */
+    private final Chunk chunk;
+
+    /**
+     * Number of bytes in the chunk, which belong to this object.
+     */
+    private final int length;
+
+    /**
+     * Ctor.
+     * @param bytes The bytes, which are not copied and must not be modified
+     */
+    public PhBuffer(final byte[] bytes) {
+        this(new Chunk(bytes), bytes.length);
+    }
+
+    /**
+     * Ctor.
+     * @param chunk The chunk
+     * @param length Number of bytes in the chunk, which belong to this object
+     */
+    private PhBuffer(final Chunk chunk, final int length) {
+        super(() -> new PhDefault(chunk.prefix(length)));
+        this.chunk = chunk;
+        this.length = length;
+    }
+
+    /**
+     * Append bytes.
+     * @param more The bytes to append, which are copied
+     * @return New object with all bytes of this one and the appended ones
+     */
+    public PhBuffer with(final byte[] more) {
+        return new PhBuffer(
+            this.chunk.appended(this.length, more),
+            this.length + more.length
+        );
+    }
+
+    @Override
+    public Phi copy() {
+        return new PhBuffer(this.chunk, this.length);
+    }
+
+    @Override
+    public boolean hasRho() {
+        return true;
+    }
+
+    /**
+     * Memory, which is shared by a chain of appends.
+     *
+     * <p>Bytes below {@link #used} are never modified, that's why they may be
+     * read by any object of the chain. Only the object, which owns all used
+     * bytes, may append to the chunk in place.</p>
+     *
+     * @since 0.53
+     */
+    private static final class Chunk {
+        /**
+         * The memory.
+         */
+        private byte[] memory;
+
+        /**
+         * Number of bytes used.
+         */
+        private int used;
+
+        /**
+         * Ctor.
+         * @param bytes The bytes to start with
+         */
+        Chunk(final byte[] bytes) {
+            this(bytes, bytes.length);
+        }
+
+        /**
+         * Ctor.
+         * @param memory The memory
+         * @param used Number of bytes used
+         */
+        Chunk(final byte[] memory, final int used) {
+            this.memory = memory;
+            this.used = used;
+        }
+
+        /**
+         * Append bytes after the prefix of the given length.
+         * @param length Length of the prefix
+         * @param more The bytes to append
+         * @return This chunk or a new one
+         */
+        synchronized Chunk appended(final int length, final byte[] more) {
+            final Chunk target;
+            if (length == this.used) {
+                target = this;
+            } else {
+                target = new Chunk(
+                    Arrays.copyOf(this.memory, length + more.length), length
+                );
+            }
+            target.append(more);
+            return target;
+        }
+
+        /**
+         * Copy of the prefix.
+         * @param length Length of the prefix
+         * @return Bytes
+         */
+        synchronized byte[] prefix(final int length) {
+            return Arrays.copyOf(this.memory, length);
+        }
+
+        /**
+         * Append bytes after all used ones, growing the memory if necessary.
+         * @param more The bytes to append
+         */
+        private void append(final byte[] more) {
+            final int total = this.used + more.length;
+            if (total > this.memory.length) {
+                this.memory = Arrays.copyOf(
+                    this.memory, Math.max(total, this.memory.length * 2)
+                );
+            }
+            System.arraycopy(more, 0, this.memory, this.used, more.length);
+            this.used = total;
+        }
+    }
+}
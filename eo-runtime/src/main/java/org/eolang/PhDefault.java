@@ -4,12 +4,10 @@
  */
 package org.eolang;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.Optional;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 /**
@@ -23,32 +21,45 @@ import java.util.regex.Pattern;
 @SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
 public class PhDefault implements Phi, Cloneable {
     /**
-     * Logger.
+     * From Java package name to forma.
      */
-    private static final Logger LOGGER = Logger.getLogger(PhDefault.class.getName());
+    private static final Pattern TO_FORMA = Pattern.compile("(^|\\.)EO");
 
     /**
-     * Attribute name matcher.
+     * Formas of objects by their classes, since forma of an object
+     * depends only on its class.
      */
-    private static final Pattern SORTABLE = Pattern.compile(
-        String.format("^([a-z].*)|%s$", Attr.PHI)
-    );
+    private static final ClassValue<String> FORMAS = new ClassValue<>() {
+        @Override
+        protected String computeValue(final Class<?> type) {
+            return PhDefault.forma(type);
+        }
+    };
 
     /**
-     * Attributes nesting level.
-     *
-     * @todo #2251:90min It is necessary to call {@link ThreadLocal#remove()} on
-     *  {@link PhDefault#NESTING} to prevent memory leaks. We should either find a place where this
-     *  variable can be removed, or, if this is not possible
-     *  (see https://github.com/objectionary/eo/pull/1930), come up with another solution.
+     * Atomic access to the elements of {@link #attrs}.
      */
-    @SuppressWarnings("java:S5164")
-    private static final ThreadLocal<Integer> NESTING = ThreadLocal.withInitial(() -> 0);
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Attr[].class);
 
     /**
-     * From Java package name to forma.
+     * Maximum number of routes in {@link #routes}.
      */
-    private static final Pattern TO_FORMA = Pattern.compile("(^|\\.)EO");
+    private static final int ROUTES = 4;
+
+    /**
+     * Atomic access to {@link #result}.
+     */
+    private static final VarHandle RESULT = PhDefault.handle("result", Phi.class);
+
+    /**
+     * Classes, which are annotated as {@link Pure}.
+     */
+    private static final ClassValue<Boolean> PURE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return type.isAnnotationPresent(Pure.class);
+        }
+    };
 
     /**
      * Data.
@@ -57,14 +68,41 @@ public class PhDefault implements Phi, Cloneable {
     private final Optional<byte[]> data;
 
     /**
-     * Order of their names.
+     * Layout of attributes.
+     */
+    private Shape shape;
+
+    /**
+     * Attributes, by slots of the shape.
+     *
+     * <p>The array may be longer than the shape, while the object
+     * is being constructed. In a copy, an empty slot means that the
+     * attribute is not yet copied from the {@link #proto}.</p>
+     */
+    private Attr[] attrs;
+
+    /**
+     * Attributes to copy from, shared with other copies.
+     *
+     * <p>The array is never modified, once it's assigned. It is
+     * {@code NULL} in an object, which was constructed, but not yet
+     * copied.</p>
+     */
+    private volatile Attr[] proto;
+
+    /**
+     * Result of λ, if this is a {@link Pure} atom and λ was already taken,
+     * or {@code NULL} otherwise.
      */
-    private final Map<Integer, String> order;
+    private volatile Phi result;
 
     /**
-     * Attributes.
+     * Fixed routes to the owners of attributes, which were taken from
+     * the decoratee, the latest first, or {@code NULL} if there are none.
+     *
+     * <p>The array is never modified, once it's assigned, but replaced.</p>
      */
-    private Map<String, Attr> attrs;
+    private volatile Route[] routes;
 
     /**
      * Default ctor.
@@ -79,8 +117,12 @@ public class PhDefault implements Phi, Cloneable {
      */
     public PhDefault(final byte[] dta) {
         this.data = Optional.ofNullable(dta);
+        this.shape = Shape.ROOT;
         this.attrs = PhDefault.defaults();
-        this.order = new HashMap<>(0);
+        final Statistics stats = Statistics.current();
+        if (stats != null) {
+            stats.of(PhDefault.FORMAS.get(this.getClass())).objects.increment();
+        }
     }
 
     @Override
@@ -93,15 +135,36 @@ public class PhDefault implements Phi, Cloneable {
         return super.hashCode() + 1;
     }
 
+    /**
+     * Make a copy, sharing attributes with this object.
+     *
+     * <p>The copy doesn't copy any attributes right away. Each of them
+     * is copied only when it's accessed for the first time, see
+     * {@link #attr(int)}. Since most copies are made in order to
+     * bind one or two void attributes, most of the attributes
+     * are never copied.</p>
+     *
+     * @return A copy
+     */
     @Override
     public final Phi copy() {
         try {
             final PhDefault copy = (PhDefault) this.clone();
-            final Map<String, Attr> map = new HashMap<>(this.attrs.size());
-            for (final Map.Entry<String, Attr> ent : this.attrs.entrySet()) {
-                map.put(ent.getKey(), ent.getValue().copy(copy));
+            copy.proto = this.template();
+            copy.attrs = new Attr[this.shape.size()];
+            copy.result = null;
+            copy.routes = null;
+            final Recorded.Copy event = new Recorded.Copy();
+            if (event.shouldCommit()) {
+                event.forma = this.forma();
+                event.commit();
+            }
+            final Statistics stats = Statistics.current();
+            if (stats != null) {
+                final Statistics.Counters counters = stats.of(this.forma());
+                counters.objects.increment();
+                counters.copies.increment();
             }
-            copy.attrs = map;
             return copy;
         } catch (final CloneNotSupportedException ex) {
             throw new IllegalStateException(ex);
@@ -110,19 +173,24 @@ public class PhDefault implements Phi, Cloneable {
 
     @Override
     public boolean hasRho() {
+        final Attr attr = this.peek(Shape.RHO);
         boolean has = true;
-        try {
-            this.attrs.get(Attr.RHO).get();
-        } catch (final ExUnset exception) {
-            has = false;
+        if (attr instanceof AtRho) {
+            has = ((AtRho) attr).isSet();
+        } else {
+            try {
+                attr.get();
+            } catch (final ExUnset exception) {
+                has = false;
+            }
         }
         return has;
     }
 
     @Override
     public void put(final int pos, final Phi object) {
-        final String name = this.attr(pos);
-        if (!(((AtWithRho) this.attrs.get(name)).origin() instanceof AtVoid)) {
+        final int slot = this.slot(pos);
+        if (!this.shape.isVoid(slot)) {
             throw new ExReadOnly(
                 String.format(
                     "Can't put attribute with position %d because it's not void one",
@@ -130,12 +198,13 @@ public class PhDefault implements Phi, Cloneable {
                 )
             );
         }
-        this.put(name, object);
+        this.write(slot, object);
     }
 
     @Override
     public void put(final String name, final Phi object) {
-        if (!this.attrs.containsKey(name)) {
+        final int slot = this.shape.slot(name);
+        if (slot < 0) {
             throw new ExUnset(
                 String.format(
                     "Can't #put(\"%s\", %s) to %s, because the attribute is absent",
@@ -143,61 +212,67 @@ public class PhDefault implements Phi, Cloneable {
                 )
             );
         }
-        this.attrs.get(name).put(object);
+        this.write(slot, object);
     }
 
     @Override
     public Phi take(final String name) {
-        PhDefault.NESTING.set(PhDefault.NESTING.get() + 1);
+        final Statistics stats = Statistics.current();
+        if (stats != null) {
+            stats.of(this.forma()).takes.increment();
+        }
+        final Trace trace = Tracing.current();
+        final Phi object;
+        if (trace == null) {
+            object = this.found(name);
+        } else {
+            object = Tracing.traced(trace, this, name);
+        }
+        return object;
+    }
+
+    @Override
+    public Phi take(final int pos) {
+        return this.take(this.shape.name(this.slot(pos)));
+    }
+
+    /**
+     * Find the attribute, without tracing.
+     * @param name Name of the attribute
+     * @return The attribute
+     */
+    final Phi found(final String name) {
+        final int slot = this.shape.slot(name);
         final Phi object;
-        if (this.attrs.containsKey(name)) {
-            object = this.attrs.get(name).get();
+        if (slot >= 0) {
+            object = this.get(slot);
         } else if (name.equals(Attr.LAMBDA)) {
-            object = new AtomSafe(this).lambda();
-        } else if (this instanceof Atom) {
-            object = this.take(Attr.LAMBDA).take(name);
-        } else if (this.attrs.containsKey(Attr.PHI)) {
-            object = this.take(Attr.PHI).take(name);
+            object = this.computed();
+        } else if (this instanceof Atom || this.shape.phi() >= 0) {
+            object = this.inherited(name);
         } else {
             throw new ExUnset(
                 String.format(
                     "Can't #take(\"%s\"), the attribute is absent among other %d attrs of %s:(%s), %s and %s are also absent",
                     name,
-                    this.attrs.size(),
+                    this.shape.size(),
                     this.forma(),
-                    String.join(", ", this.attrs.keySet()),
+                    String.join(", ", this.shape.names()),
                     Attr.PHI,
                     Attr.LAMBDA
                 )
             );
         }
-        PhDefault.debug(
-            String.format(
-                "%s\uD835\uDD38('%s' for %s) ➜ %s",
-                PhDefault.padding(),
-                name,
-                this,
-                object
-            )
-        );
-        PhDefault.NESTING.set(PhDefault.NESTING.get() - 1);
         return object;
     }
 
-    @Override
-    public Phi take(final int pos) {
-        return this.take(this.attr(pos));
-    }
-
     @Override
     public byte[] delta() {
         final byte[] bytes;
         if (this.data.isPresent()) {
             bytes = this.data.get();
-        } else if (this instanceof Atom) {
-            bytes = this.take(Attr.LAMBDA).delta();
-        } else if (this.attrs.containsKey(Attr.PHI)) {
-            bytes = this.take(Attr.PHI).delta();
+        } else if (this instanceof Atom || this.shape.phi() >= 0) {
+            bytes = this.next().delta();
         } else {
             throw new ExFailure(
                 String.format(
@@ -209,6 +284,73 @@ public class PhDefault implements Phi, Cloneable {
         return bytes;
     }
 
+    /**
+     * The object, whose Δ is the Δ of this one.
+     * @return The result of λ, if it's an atom, or \phi, or NULL if there
+     *  is the data in this object or there is neither λ nor \phi
+     */
+    final Phi next() {
+        final Phi next;
+        if (this.data.isPresent()) {
+            next = null;
+        } else if (this instanceof Atom) {
+            next = this.take(Attr.LAMBDA);
+        } else if (this.shape.phi() >= 0) {
+            next = this.take(Attr.PHI);
+        } else {
+            next = null;
+        }
+        return next;
+    }
+
+    /**
+     * Does this object own the attribute, which means that it must be
+     * taken from this object, not from its decoratee?
+     * @param name Name of the attribute
+     * @return TRUE if it owns it or there is no decoratee
+     */
+    final boolean owns(final String name) {
+        return this.shape.slot(name) >= 0 || name.equals(Attr.LAMBDA)
+            || !(this instanceof Atom || this.shape.phi() >= 0);
+    }
+
+    /**
+     * The decoratee, where absent attributes are taken from.
+     * @return The result of λ, if it's an atom, or \phi
+     */
+    final Phi decoratee() {
+        final Phi decoratee;
+        if (this instanceof Atom) {
+            decoratee = this.take(Attr.LAMBDA);
+        } else {
+            decoratee = this.take(Attr.PHI);
+        }
+        return decoratee;
+    }
+
+    /**
+     * Is the decoratee always the same object?
+     *
+     * <p>It is, if it is the result of λ of a {@link Pure} atom, or
+     * \phi, which is either retrieved only once by {@link AtOnce}, or
+     * bound to {@link AtVoid}, and has its own \rho, so that
+     * it is not copied on every access.</p>
+     *
+     * @param decoratee The decoratee, just taken by {@link #decoratee()}
+     * @return TRUE if it is
+     */
+    final boolean isFixed(final Phi decoratee) {
+        final boolean fixed;
+        if (this instanceof Atom) {
+            fixed = PhDefault.PURE.get(this.getClass());
+        } else {
+            final Attr attr = this.attr(this.shape.phi());
+            fixed = (attr instanceof AtOnce || attr instanceof AtVoid)
+                && attr.get() == decoratee;
+        }
+        return fixed;
+    }
+
     @Override
     public String locator() {
         return "?";
@@ -216,21 +358,7 @@ public class PhDefault implements Phi, Cloneable {
 
     @Override
     public String forma() {
-        final String name = this.oname();
-        final String form;
-        if (PhDefault.class.getSimpleName().equals(name)) {
-            form = "[]";
-        } else {
-            form = String.join(
-                ".",
-                PhPackage.GLOBAL,
-                PhDefault.TO_FORMA.matcher(
-                    this.getClass().getPackageName()
-                ).replaceAll("$1"),
-                name
-            );
-        }
-        return form;
+        return PhDefault.FORMAS.get(this.getClass());
     }
 
     /**
@@ -244,18 +372,164 @@ public class PhDefault implements Phi, Cloneable {
      * @param attr The attr
      */
     public final void add(final String name, final Attr attr) {
-        if (PhDefault.SORTABLE.matcher(name).matches()) {
-            this.order.put(this.order.size(), name);
+        final int slot = this.shape.slot(name);
+        if (slot < 0) {
+            final int size = this.shape.size();
+            this.shape = this.shape.with(name, attr instanceof AtVoid);
+            if (size == this.attrs.length) {
+                this.attrs = Arrays.copyOf(this.attrs, size * 2);
+            }
+            this.attrs[size] = attr;
+        } else {
+            this.attrs[slot] = attr;
+        }
+    }
+
+    /**
+     * Take the attribute, setting another object as its \rho, if it's
+     * not set yet, instead of this one.
+     *
+     * <p>An object, which carries a primitive and makes this one only when
+     * its attributes are taken, like {@link PhNumber}, stays the \rho of
+     * them, so that atoms find the primitive in their \rho.</p>
+     *
+     * @param name Name of the attribute
+     * @param rho The \rho
+     * @return The attribute
+     */
+    final Phi take(final String name, final Phi rho) {
+        final int slot = this.shape.slot(name);
+        final Phi object;
+        if (slot < 0 || slot == Shape.RHO || Tracing.current() != null) {
+            object = this.take(name);
+        } else {
+            final Statistics stats = Statistics.current();
+            if (stats != null) {
+                stats.of(this.forma()).takes.increment();
+            }
+            object = this.get(slot, rho);
+        }
+        return object;
+    }
+
+    /**
+     * Get attribute from the slot and set \rho to it, if it's not set yet.
+     * @param slot The slot
+     * @return The object
+     */
+    private Phi get(final int slot) {
+        final Phi ret;
+        if (slot == Shape.RHO) {
+            ret = this.peek(slot).get();
+        } else {
+            ret = this.get(slot, this);
+        }
+        return ret;
+    }
+
+    /**
+     * Get attribute from the slot, which is not \rho, and set \rho to it,
+     * if it's not set yet.
+     * @param slot The slot
+     * @param rho The \rho
+     * @return The object
+     */
+    private Phi get(final int slot, final Phi rho) {
+        Phi ret = this.attr(slot).get();
+        if (!ret.hasRho()) {
+            ret = ret.copy();
+            ret.put(Attr.RHO, rho);
+        }
+        return ret;
+    }
+
+    /**
+     * Get attribute from the slot, copying it from the {@link #proto}
+     * if it's not copied yet.
+     * @param slot The slot
+     * @return The attribute that belongs to this object
+     */
+    private Attr attr(final int slot) {
+        Attr attr = (Attr) PhDefault.SLOTS.getAcquire(this.attrs, slot);
+        if (attr == null) {
+            final Attr fresh = this.proto[slot].copy(this);
+            if (PhDefault.SLOTS.compareAndSet(this.attrs, slot, null, fresh)) {
+                attr = fresh;
+            } else {
+                attr = (Attr) PhDefault.SLOTS.getAcquire(this.attrs, slot);
+            }
         }
-        this.attrs.put(name, new AtWithRho(attr, this));
+        return attr;
     }
 
     /**
-     * Get attribute name by position.
+     * Get attribute from the slot for reading only, without copying it.
+     *
+     * <p>It's safe only for the attributes that don't depend on the
+     * object they belong to, like {@link AtRho}.</p>
+     *
+     * @param slot The slot
+     * @return The attribute, which may belong to another object
+     */
+    private Attr peek(final int slot) {
+        Attr attr = (Attr) PhDefault.SLOTS.getAcquire(this.attrs, slot);
+        if (attr == null) {
+            attr = this.proto[slot];
+        }
+        return attr;
+    }
+
+    /**
+     * Put object into the attribute in the slot.
+     *
+     * <p>The attribute, once written, becomes a part of the {@link #proto}
+     * for further copies, just like it would be copied right away. The
+     * {@link #proto} itself is never modified, since it may be shared
+     * with other copies, but replaced.</p>
+     *
+     * @param slot The slot
+     * @param object The object to put
+     */
+    private synchronized void write(final int slot, final Phi object) {
+        final Attr[] shared = this.proto;
+        Attr attr = this.attr(slot);
+        if (shared != null && shared[slot] == attr) {
+            attr = attr.copy(this);
+            PhDefault.SLOTS.setRelease(this.attrs, slot, attr);
+        }
+        attr.put(object);
+        this.routes = null;
+        if (shared != null) {
+            final Attr[] next = shared.clone();
+            next[slot] = attr;
+            this.proto = next;
+        }
+    }
+
+    /**
+     * Attributes for the copies to copy from.
+     * @return Attributes, which must not be modified
+     */
+    private Attr[] template() {
+        Attr[] shared = this.proto;
+        if (shared == null) {
+            synchronized (this) {
+                shared = this.proto;
+                if (shared == null) {
+                    shared = Arrays.copyOf(this.attrs, this.shape.size());
+                    this.proto = shared;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Get attribute slot by position.
      * @param pos Position of the attribute
-     * @return Attribute name
+     * @return Attribute slot
      */
-    private String attr(final int pos) {
+    private int slot(final int pos) {
         if (0 > pos) {
             throw new ExFailure(
                 String.format(
@@ -264,7 +538,7 @@ public class PhDefault implements Phi, Cloneable {
                 )
             );
         }
-        if (this.order.isEmpty()) {
+        if (this.shape.positions() == 0) {
             throw new ExFailure(
                 String.format(
                     "There are no attributes here, can't read the %d-th one",
@@ -272,26 +546,126 @@ public class PhDefault implements Phi, Cloneable {
                 )
             );
         }
-        if (!this.order.containsKey(pos)) {
+        if (pos >= this.shape.positions()) {
             throw new ExFailure(
                 String.format(
                     "%s has just %d attribute(s), can't read the %d-th one",
                     this,
-                    this.order.size(),
+                    this.shape.positions(),
                     pos
                 )
             );
         }
-        return this.order.get(pos);
+        return this.shape.position(pos);
+    }
+
+    /**
+     * Take the attribute from the decoratee.
+     *
+     * <p>If the route to the owner of the attribute is fixed, it is
+     * remembered, and the attribute is taken from the owner right away
+     * next time. When tracing is on or the profiler is started, the
+     * attribute is taken through all decoratees, one by one, to report
+     * all of them.</p>
+     *
+     * @param name Name of the attribute, which is absent here
+     * @return The attribute
+     */
+    private Phi inherited(final String name) {
+        final Phi object;
+        if (Tracing.current() == null && !Profiling.isStarted()) {
+            final Route[] known = this.routes;
+            Route route = null;
+            if (known != null) {
+                for (final Route candidate : known) {
+                    if (candidate.leadsTo(name)) {
+                        route = candidate;
+                        break;
+                    }
+                }
+            }
+            if (route == null) {
+                route = Route.found(this, name);
+                if (route.isFixed()) {
+                    this.remember(known, route);
+                }
+            }
+            object = route.take();
+        } else {
+            object = this.decoratee().take(name);
+        }
+        return object;
+    }
+
+    /**
+     * Remember the route, forgetting the oldest one, if there are too many.
+     * @param known Routes, which are known, or NULL
+     * @param route The route
+     */
+    private void remember(final Route[] known, final Route route) {
+        final Route[] more;
+        if (known == null) {
+            more = new Route[] {route};
+        } else {
+            more = new Route[Math.min(known.length + 1, PhDefault.ROUTES)];
+            more[0] = route;
+            System.arraycopy(known, 0, more, 1, more.length - 1);
+        }
+        this.routes = more;
+    }
+
+    /**
+     * Take λ of the atom, only once, if it is {@link Pure}.
+     *
+     * <p>If a few threads take λ of a pure atom at the same time, each of
+     * them may calculate it, but all of them get the result, which was
+     * published first.</p>
+     *
+     * @return The result of λ
+     */
+    private Phi computed() {
+        Phi phi;
+        if (PhDefault.PURE.get(this.getClass())) {
+            phi = this.result;
+            if (phi == null) {
+                PhDefault.RESULT.compareAndSet(this, null, new AtomSafe(this).lambda());
+                phi = this.result;
+            }
+        } else {
+            phi = new AtomSafe(this).lambda();
+        }
+        return phi;
+    }
+
+    /**
+     * Make forma of objects of the class.
+     * @param type The class
+     * @return Forma
+     */
+    private static String forma(final Class<?> type) {
+        final String name = PhDefault.oname(type);
+        final String form;
+        if (PhDefault.class.getSimpleName().equals(name)) {
+            form = "[]";
+        } else {
+            form = String.join(
+                ".",
+                PhPackage.GLOBAL,
+                PhDefault.TO_FORMA.matcher(type.getPackageName()).replaceAll("$1"),
+                name
+            );
+        }
+        return form;
     }
 
     /**
-     * Get its object name, as in source code.
+     * Get object name of the class, as in source code.
+     * @param type The class
      * @return The name
      */
-    private String oname() {
-        String txt = this.getClass().getSimpleName();
-        final XmirObject xmir = this.getClass().getAnnotation(XmirObject.class);
+    private static String oname(final Class<?> type) {
+        String txt = type.getSimpleName();
+        final XmirObject xmir = type.getAnnotation(XmirObject.class);
         if (null != xmir) {
             txt = xmir.oname();
             if ("@".equals(txt)) {
@@ -302,33 +676,26 @@ public class PhDefault implements Phi, Cloneable {
     }
 
     /**
-     * Default attributes hash map with RHO attribute put.
-     * @return Default attributes hash map
-     */
-    private static Map<String, Attr> defaults() {
-        final Map<String, Attr> attrs = new HashMap<>(0);
-        attrs.put(Attr.RHO, new AtRho());
-        return attrs;
-    }
-
-    /**
-     * Log debug message for PhDefault.
-     * @param msg Message to log
+     * Handle of a field of this class.
+     * @param field Name of the field
+     * @param type Type of the field
+     * @return The handle
      */
-    private static void debug(final String msg) {
-        if (PhDefault.LOGGER.isLoggable(Level.FINE)) {
-            PhDefault.LOGGER.log(
-                Level.FINE,
-                msg
-            );
+    private static VarHandle handle(final String field, final Class<?> type) {
+        try {
+            return MethodHandles.lookup().findVarHandle(PhDefault.class, field, type);
+        } catch (final NoSuchFieldException | IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
         }
     }
 
     /**
-     * Padding according to current {@link #NESTING} level.
-     * @return Padding string.
+     * Default attributes with RHO attribute put, matching {@link Shape#ROOT}.
+     * @return Default attributes
      */
-    private static String padding() {
-        return String.join("", Collections.nCopies(PhDefault.NESTING.get(), "·"));
+    private static Attr[] defaults() {
+        final Attr[] attrs = new Attr[2];
+        attrs[Shape.RHO] = new AtRho();
+        return attrs;
     }
 }
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+/**
+ * The global object {@link Phi#Φ}, which is the global package of
+ * {@link Context#current()}.
+ *
+ * @since 0.53
+ */
+final class PhGlobal implements Phi {
+    @Override
+    public Phi copy() {
+        return this;
+    }
+
+    @Override
+    public boolean hasRho() {
+        return PhGlobal.origin().hasRho();
+    }
+
+    @Override
+    public Phi take(final String name) {
+        return PhGlobal.origin().take(name);
+    }
+
+    @Override
+    public Phi take(final int pos) {
+        return PhGlobal.origin().take(pos);
+    }
+
+    @Override
+    public void put(final int pos, final Phi object) {
+        PhGlobal.origin().put(pos, object);
+    }
+
+    @Override
+    public void put(final String name, final Phi object) {
+        PhGlobal.origin().put(name, object);
+    }
+
+    @Override
+    public String locator() {
+        return PhGlobal.origin().locator();
+    }
+
+    @Override
+    public String forma() {
+        return PhGlobal.origin().forma();
+    }
+
+    @Override
+    public byte[] delta() {
+        return PhGlobal.origin().delta();
+    }
+
+    /**
+     * The global package of the current context.
+     * @return The package
+     */
+    private static Phi origin() {
+        return Context.current().global();
+    }
+}
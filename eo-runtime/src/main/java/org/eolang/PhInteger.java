@@ -0,0 +1,110 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+/**
+ * EO {@code i64}, {@code i32} or {@code i16}, which carries its value
+ * as a primitive {@code long}.
+ *
+ * <p>The EO object is made only when one of its attributes is taken.
+ * Until then, {@link #delta()} encodes the value right away and
+ * {@link Dataized#asLong()} takes it without any bytes at all. The
+ * attributes of the EO object get this one as their \rho, so that
+ * atoms, like {@code i64.plus}, find the value in their \rho.</p>
+ *
+ * @since 0.53
+ */
+public final class PhInteger extends PhOnce {
+    /**
+     * The value.
+     */
+    private final long value;
+
+    /**
+     * Number of bytes: 8, 4 or 2.
+     */
+    private final int size;
+
+    /**
+     * Ctor of {@code i64}.
+     * @param num The value
+     */
+    public PhInteger(final long num) {
+        this(num, Long.BYTES);
+    }
+
+    /**
+     * Ctor.
+     * @param num The value, which must fit into the size
+     * @param bytes Number of bytes: {@link Long#BYTES} for {@code i64},
+     *  {@link Integer#BYTES} for {@code i32} or {@link Short#BYTES} for {@code i16}
+     */
+    public PhInteger(final long num, final int bytes) {
+        super(() -> PhInteger.made(num, bytes));
+        this.value = num;
+        this.size = bytes;
+    }
+
+    @Override
+    public Phi copy() {
+        return new PhInteger(this.value, this.size);
+    }
+
+    @Override
+    public Phi take(final String name) {
+        return this.rebound(name);
+    }
+
+    @Override
+    public byte[] delta() {
+        return BytesRaw.encoded(this.value, this.size);
+    }
+
+    @Override
+    Phi next() {
+        return null;
+    }
+
+    /**
+     * The value, as it is.
+     * @return The value
+     */
+    long primitive() {
+        return this.value;
+    }
+
+    /**
+     * Number of bytes the value takes.
+     * @return Number of bytes
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Make EO object.
+     * @param num The value
+     * @param bytes Number of bytes
+     * @return EO object
+     */
+    private static Phi made(final long num, final int bytes) {
+        final String type;
+        if (bytes == Long.BYTES) {
+            type = "i64";
+        } else if (bytes == Integer.BYTES) {
+            type = "i32";
+        } else if (bytes == Short.BYTES) {
+            type = "i16";
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Integers of %d bytes are not supported", bytes)
+            );
+        }
+        final Phi obj = Phi.Φ.take(String.format("org.eolang.%s", type)).copy();
+        obj.put(0, new Data.ToPhi(BytesRaw.encoded(num, bytes)));
+        return obj;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+/**
+ * EO {@code number}, which carries its value as a primitive {@code double}.
+ *
+ * <p>The EO object is made only when one of its attributes is taken.
+ * Until then, {@link #delta()} encodes the value right away and
+ * {@link Dataized#asDouble()} takes it without any bytes at all. The
+ * attributes of the EO object get this one as their \rho, so that
+ * atoms, like {@code number.plus}, find the value in their \rho.</p>
+ *
+ * @since 0.53
+ */
+public final class PhNumber extends PhOnce {
+    /**
+     * The value.
+     */
+    private final double value;
+
+    /**
+     * Ctor.
+     * @param num The value
+     */
+    public PhNumber(final double num) {
+        super(() -> new Data.ToPhi(num).next());
+        this.value = num;
+    }
+
+    @Override
+    public Phi copy() {
+        return new PhNumber(this.value);
+    }
+
+    @Override
+    public Phi take(final String name) {
+        return this.rebound(name);
+    }
+
+    @Override
+    public byte[] delta() {
+        final byte[] bytes;
+        if (Double.isFinite(this.value)) {
+            bytes = BytesRaw.encoded(Double.doubleToLongBits(this.value), Double.BYTES);
+        } else {
+            bytes = super.delta();
+        }
+        return bytes;
+    }
+
+    @Override
+    Phi next() {
+        return null;
+    }
+
+    /**
+     * The value, as it is.
+     * @return The value
+     */
+    double primitive() {
+        return this.value;
+    }
+}
@@ -5,12 +5,15 @@
 
 package org.eolang;
 
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 /**
  * An object wrapping another one.
  *
+ * <p>The wrapped object is made only once, when it's needed for the first
+ * time. The lock is taken only while it's being made, after that the
+ * object is read without locking.</p>
+ *
  * @since 0.1
  * @checkstyle DesignForExtensionCheck (100 lines)
  */
@@ -18,14 +21,14 @@ import java.util.function.Supplier;
 public class PhOnce implements Phi {
 
     /**
-     * The object fetched.
+     * Supplier of the object.
      */
-    private final Supplier<Phi> object;
+    private final Supplier<Phi> origin;
 
     /**
-     * Reference.
+     * The object, {@code NULL} until it's made.
      */
-    private final AtomicReference<Phi> ref;
+    private volatile Phi ref;
 
     /**
      * Ctor.
@@ -33,71 +36,108 @@ public class PhOnce implements Phi {
      * @param obj The object
      */
     public PhOnce(final Supplier<Phi> obj) {
-        this.ref = new AtomicReference<>(null);
-        this.object = () -> {
-            synchronized (this.ref) {
-                if (this.ref.get() == null) {
-                    this.ref.set(obj.get());
-                }
-                return this.ref.get();
-            }
-        };
+        this.origin = obj;
     }
 
     @Override
     public boolean equals(final Object obj) {
-        return this.object.get().equals(obj);
+        return this.object().equals(obj);
     }
 
     @Override
     public int hashCode() {
-        return this.object.get().hashCode();
+        return this.object().hashCode();
     }
 
     @Override
     public Phi copy() {
         return new PhOnce(
-            () -> this.object.get().copy()
+            () -> this.object().copy()
         );
     }
 
     @Override
     public boolean hasRho() {
-        return this.object.get().hasRho();
+        return this.object().hasRho();
     }
 
     @Override
     public Phi take(final String name) {
-        return this.object.get().take(name);
+        return this.object().take(name);
     }
 
     @Override
     public Phi take(final int pos) {
-        return this.object.get().take(pos);
+        return this.object().take(pos);
     }
 
     @Override
     public void put(final int pos, final Phi obj) {
-        this.object.get().put(pos, obj);
+        this.object().put(pos, obj);
     }
 
     @Override
     public void put(final String name, final Phi obj) {
-        this.object.get().put(name, obj);
+        this.object().put(name, obj);
     }
 
     @Override
     public String locator() {
-        return this.object.get().locator();
+        return this.object().locator();
     }
 
     @Override
     public String forma() {
-        return this.object.get().forma();
+        return this.object().forma();
     }
 
     @Override
     public byte[] delta() {
-        return this.object.get().delta();
+        return this.object().delta();
+    }
+
+    /**
+     * The object, whose Δ and attributes are the Δ and attributes
+     * of this one.
+     * @return The wrapped object or NULL if this one makes its Δ itself
+     *  and hands out attributes itself
+     */
+    Phi next() {
+        return this.object();
+    }
+
+    /**
+     * Take the attribute of the wrapped object, while this one, instead
+     * of the wrapped one, becomes its \rho.
+     * @param name Name of the attribute
+     * @return The attribute
+     */
+    final Phi rebound(final String name) {
+        final Phi obj = this.object();
+        final Phi taken;
+        if (obj instanceof PhDefault) {
+            taken = ((PhDefault) obj).take(name, this);
+        } else {
+            taken = obj.take(name);
+        }
+        return taken;
+    }
+
+    /**
+     * The object, made on the first call.
+     * @return The object
+     */
+    final Phi object() {
+        Phi phi = this.ref;
+        if (phi == null) {
+            synchronized (this) {
+                phi = this.ref;
+                if (phi == null) {
+                    phi = this.origin.get();
+                    this.ref = phi;
+                }
+            }
+        }
+        return phi;
     }
 }
@@ -16,6 +16,11 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * A package object, coming from {@link Phi}.
  *
+ * <p>The class is thread-safe. Objects of the package are loaded
+ * without locking, since loading of one object may load others. If a few
+ * threads take the same object for the first time, each of them may load
+ * it, but all of them get copies of the one, which was stored first.</p>
+ *
  * @since 0.22
  */
 @SuppressWarnings("PMD.TooManyMethods")
@@ -71,16 +76,22 @@ final class PhPackage implements Phi {
     public Phi take(final String name) {
         final String obj = String.join(".", this.pkg, name);
         final String key = new JavaPath(obj).toString();
-        return this.objects.computeIfAbsent(
-            key,
-            k -> {
-                final Phi initialized = this.loadPhi(key, obj);
-                if (!(initialized instanceof PhPackage)) {
-                    initialized.put(Attr.RHO, this);
-                }
-                return initialized;
+        Phi found = this.objects.get(key);
+        if (found == null) {
+            final Recorded.Load event = new Recorded.Load();
+            event.begin();
+            final Phi initialized = this.loadPhi(key, obj);
+            if (event.shouldCommit()) {
+                event.object = obj;
+                event.commit();
+            }
+            if (!(initialized instanceof PhPackage)) {
+                initialized.put(Attr.RHO, this);
             }
-        ).copy();
+            this.objects.putIfAbsent(key, initialized);
+            found = this.objects.get(key);
+        }
+        return found.copy();
     }
 
     @Override
@@ -110,12 +121,37 @@ final class PhPackage implements Phi {
     }
 
     /**
-     * Load phi object by package name from ClassLoader.
+     * Load phi object by package name.
+     *
+     * <p>Objects and packages, which are known to {@link Registries},
+     * are made without touching the file system. All other objects
+     * are searched for in the directory, where the runtime is located.</p>
+     *
      * @param path Path to directory or .java file
      * @param object Object FQN
      * @return Phi
      */
     private Phi loadPhi(final String path, final String object) {
+        final Phi phi;
+        if (Registries.INSTANCE.isPackage(path)) {
+            phi = new PhPackage(object);
+        } else if (Registries.INSTANCE.isObject(path)) {
+            phi = Registries.INSTANCE.make(path);
+        } else if (Registries.INSTANCE.isAtom(path)) {
+            phi = this.instance(path);
+        } else {
+            phi = this.probed(path, object);
+        }
+        return phi;
+    }
+
+    /**
+     * Find phi object in the file system.
+     * @param path Path to directory or .java file
+     * @param object Object FQN
+     * @return Phi
+     */
+    private Phi probed(final String path, final String object) {
         final Path pth = new File(
             this.getClass().getProtectionDomain().getCodeSource().getLocation().getPath()
         ).toPath().resolve(path.replace(".", File.separator));
@@ -129,25 +165,34 @@ final class PhPackage implements Phi {
                     String.format("Couldn't find object '%s'", object)
                 );
             }
-            try {
-                phi = (Phi) Class.forName(path)
-                    .getConstructor()
-                    .newInstance();
-            } catch (final ClassNotFoundException
-                | NoSuchMethodException
-                | InvocationTargetException
-                | InstantiationException
-                | IllegalAccessException ex
-            ) {
-                throw new ExFailure(
-                    String.format(
-                        "Couldn't build Java object \"%s\" in EO package \"%s\"",
-                        path, this.pkg
-                    ),
-                    ex
-                );
-            }
+            phi = this.instance(path);
         }
         return phi;
     }
+
+    /**
+     * Make phi object by the name of its Java class.
+     * @param path Java name of the class
+     * @return Phi
+     */
+    private Phi instance(final String path) {
+        try {
+            return (Phi) Class.forName(path)
+                .getConstructor()
+                .newInstance();
+        } catch (final ClassNotFoundException
+            | NoSuchMethodException
+            | InvocationTargetException
+            | InstantiationException
+            | IllegalAccessException ex
+        ) {
+            throw new ExFailure(
+                String.format(
+                    "Couldn't build Java object \"%s\" in EO package \"%s\"",
+                    path, this.pkg
+                ),
+                ex
+            );
+        }
+    }
 }
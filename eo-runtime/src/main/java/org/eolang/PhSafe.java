@@ -6,9 +6,9 @@
 package org.eolang;
 
 import EOorg.EOeolang.EOerror;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.function.Supplier;
 
 /**
  * An object with coordinates (line and position) and a safe
@@ -22,6 +22,7 @@ import java.util.function.Supplier;
  * EO code.</p>
  *
  * @since 0.21
+ * @checkstyle IllegalCatchCheck (200 lines)
  */
 @SuppressWarnings("PMD.TooManyMethods")
 public final class PhSafe implements Phi, Atom {
@@ -119,28 +120,63 @@ public final class PhSafe implements Phi, Atom {
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public boolean hasRho() {
-        return this.through(this.origin::hasRho);
+        try {
+            return this.origin.hasRho();
+        } catch (final Throwable ex) {
+            throw this.wrapped(ex, "");
+        }
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public Phi take(final String name) {
-        return this.through(() -> this.origin.take(name));
+        final Profiling.Frames frames = Profiling.entered(this);
+        try {
+            return this.origin.take(name);
+        } catch (final Throwable ex) {
+            throw this.wrapped(ex, "");
+        } finally {
+            if (frames != null) {
+                frames.leave();
+            }
+        }
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public Phi take(final int pos) {
-        return this.through(() -> this.origin.take(pos));
+        final Profiling.Frames frames = Profiling.entered(this);
+        try {
+            return this.origin.take(pos);
+        } catch (final Throwable ex) {
+            throw this.wrapped(ex, "");
+        } finally {
+            if (frames != null) {
+                frames.leave();
+            }
+        }
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public void put(final int pos, final Phi object) {
-        this.through(() -> this.origin.put(pos, object));
+        try {
+            this.origin.put(pos, object);
+        } catch (final Throwable ex) {
+            throw this.wrapped(ex, "");
+        }
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public void put(final String nme, final Phi object) {
-        this.through(() -> this.origin.put(nme, object));
+        try {
+            this.origin.put(nme, object);
+        } catch (final Throwable ex) {
+            throw this.wrapped(ex, "");
+        }
     }
 
     @Override
@@ -158,69 +194,94 @@ public final class PhSafe implements Phi, Atom {
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public byte[] delta() {
-        return this.through(this.origin::delta, ".Δ");
+        final Profiling.Frames frames = Profiling.entered(this);
+        try {
+            return this.origin.delta();
+        } catch (final Throwable ex) {
+            throw this.wrapped(ex, ".Δ");
+        } finally {
+            if (frames != null) {
+                frames.leave();
+            }
+        }
     }
 
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public Phi lambda() {
-        return this.through(new AtomSafe(this.origin)::lambda, ".λ");
+        final Profiling.Frames frames = Profiling.entered(this);
+        try {
+            return new AtomSafe(this.origin).lambda();
+        } catch (final Throwable ex) {
+            throw this.wrapped(ex, ".λ");
+        } finally {
+            if (frames != null) {
+                frames.leave();
+            }
+        }
     }
 
     /**
-     * Helper, for other methods.
-     * @param action The action
+     * The object, whose Δ is the Δ of this one.
+     * @return The origin
      */
-    private void through(final Runnable action) {
-        this.through(
-            () -> {
-                action.run();
-                return true;
-            },
-            ""
+    Phi next() {
+        return this.origin;
+    }
+
+    /**
+     * The frame of this object in the profile of {@link Profiling}.
+     * @return The location of the object and its place in the program
+     */
+    String frame() {
+        return String.format(
+            "%s at %s:%d:%d", this.location, this.program, this.line, this.position
         );
     }
 
     /**
-     * Helper, for other methods.
-     * @param action The action
-     * @param <T> Type of result
-     * @return Result
+     * Wrap the failure, which happened while the Δ of the origin was
+     * taken, the same way {@link #delta()} does it.
+     * @param ex The failure
+     * @return The error
      */
-    private <T> T through(final Supplier<T> action) {
-        return this.through(action, "");
+    EOerror.ExError failed(final Throwable ex) {
+        return this.wrapped(ex, ".Δ");
     }
 
     /**
-     * Helper, for other methods.
+     * Wrap the failure into an error with the label.
      *
-     * <p>No matter what happens inside the {@code action}, only
-     * an instance of {@link EOerror.ExError} may be thrown out
-     * of this method.</p>
+     * <p>No matter what the failure is, only an instance of
+     * {@link EOerror.ExError} is returned. The label and the stack trace
+     * of the failure are rendered only when the messages of the error
+     * are asked for, which happens when the error is printed.</p>
      *
-     * @param action The action
+     * @param ex The failure
      * @param suffix The suffix to add to the label
-     * @param <T> Type of result
-     * @return Result
-     * @checkstyle IllegalCatchCheck (20 lines)
+     * @return The error
      */
-    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "PMD.PreserveStackTrace"})
-    private <T> T through(final Supplier<T> action, final String suffix) {
-        try {
-            return action.get();
-        } catch (final EOerror.ExError ex) {
-            throw new EOerror.ExError(ex, this.label(suffix));
-        } catch (final ExAbstract ex) {
-            throw new EOerror.ExError(
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    EOerror.ExError wrapped(final Throwable ex, final String suffix) {
+        final EOerror.ExError error;
+        if (ex instanceof EOerror.ExError) {
+            error = new EOerror.ExError(
+                (EOerror.ExError) ex, () -> this.label(suffix)
+            );
+        } else if (ex instanceof ExAbstract) {
+            error = new EOerror.ExError(
                 new Data.ToPhi(ex.getMessage()),
-                this.label(suffix)
+                () -> Collections.singletonList(this.label(suffix))
             );
-        } catch (final Throwable ex) {
-            throw new EOerror.ExError(
+        } else {
+            error = new EOerror.ExError(
                 new Data.ToPhi(ex.getMessage()),
-                PhSafe.trace(ex, this.label(suffix))
+                () -> PhSafe.trace(ex, this.label(suffix))
             );
         }
+        return error;
     }
 
     /**
@@ -20,12 +20,13 @@ package org.eolang;
 public interface Phi extends Data {
 
     /**
-     * The global scope object, which owns all other objects.
+     * The global scope object, which owns all other objects
+     * of the current {@link Context}.
      *
      * @checkstyle ConstantNameCheck (5 lines)
      */
     @SuppressWarnings("PMD.FieldNamingConventions")
-    Phi Φ = new PhPackage(PhPackage.GLOBAL);
+    Phi Φ = new PhGlobal();
 
     /**
      * Make a copy, leaving it at the same parent.
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loading of classes, which are listed in {@code META-INF/eo-preload.lst}
+ * resources, in the background.
+ *
+ * <p>The lists are made by the {@code archive} goal of the EO Maven plugin,
+ * which records the classes, loaded by a training run of the program.
+ * {@link PhPackage} finds objects one by one, when they are taken,
+ * while here all of them are loaded by a separate thread, at the same
+ * time with the main one. Classes are only loaded, not initialized. Names
+ * of classes, which are not found, are skipped, since the list may be
+ * older than the classes.</p>
+ *
+ * @since 0.53
+ */
+final class Preload implements Runnable {
+    /**
+     * Location of the lists.
+     */
+    static final String LIST = "META-INF/eo-preload.lst";
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(Preload.class.getName());
+
+    /**
+     * Class loader.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * Ctor.
+     * @param loader Class loader to find the lists and load the classes
+     */
+    Preload(final ClassLoader loader) {
+        this.loader = loader;
+    }
+
+    /**
+     * Start loading in a daemon thread.
+     */
+    void start() {
+        final Thread thread = new Thread(this, "eo-preload");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        try {
+            final Enumeration<URL> lists = this.loader.getResources(Preload.LIST);
+            int total = 0;
+            while (lists.hasMoreElements()) {
+                total += this.load(lists.nextElement());
+            }
+            if (total > 0) {
+                Preload.LOGGER.log(Level.FINE, String.format("Preloaded %d classes", total));
+            }
+        } catch (final IOException ex) {
+            Preload.LOGGER.log(Level.FINE, "Failed to preload classes", ex);
+        }
+    }
+
+    /**
+     * Load all classes of the list.
+     * @param list The list
+     * @return How many classes were loaded
+     * @throws IOException If fails to read
+     */
+    private int load(final URL list) throws IOException {
+        int total = 0;
+        try (BufferedReader input = new BufferedReader(
+            new InputStreamReader(list.openStream(), StandardCharsets.UTF_8)
+        )) {
+            String name = input.readLine();
+            while (name != null) {
+                if (!name.isEmpty()) {
+                    try {
+                        Class.forName(name, false, this.loader);
+                        ++total;
+                    } catch (final ClassNotFoundException | LinkageError ex) {
+                        Preload.LOGGER.log(
+                            Level.FINEST, String.format("Can't preload %s", name), ex
+                        );
+                    }
+                }
+                name = input.readLine();
+            }
+        }
+        return total;
+    }
+}
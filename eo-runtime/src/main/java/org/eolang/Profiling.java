@@ -0,0 +1,261 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Sampling profiler of EO programs.
+ *
+ * <p>Every {@link PhSafe}, while its attribute, Δ or λ is taken, stays
+ * on the shadow stack of its thread. When the profiler is started, a daemon
+ * thread walks shadow stacks of all threads periodically and counts them.
+ * When JVM stops, the counts are saved in the collapsed-stack format,
+ * which is understood by flame graph tools: one stack per line, with
+ * frames from the outermost to the innermost, separated by semicolons,
+ * and the number of samples at the end. Every frame is the location of the
+ * object and its place in the {@code .eo} file.</p>
+ *
+ * <p>When the profiler is not started, {@link PhSafe} checks one static
+ * field and doesn't touch any thread locals. Shadow stacks are read by
+ * the profiler without locking, that's why a sample may be slightly
+ * behind the real state of the thread.</p>
+ *
+ * @since 0.53
+ */
+public final class Profiling {
+    /**
+     * Shadow stacks of threads.
+     */
+    private static final Map<Thread, Frames> STACKS = new ConcurrentHashMap<>(0);
+
+    /**
+     * Shadow stack of the current thread.
+     */
+    private static final ThreadLocal<Frames> FRAMES = ThreadLocal.withInitial(
+        () -> {
+            final Frames frames = new Frames();
+            Profiling.STACKS.put(Thread.currentThread(), frames);
+            return frames;
+        }
+    );
+
+    /**
+     * Is the profiler started?
+     */
+    private static volatile boolean started;
+
+    /**
+     * Not for instantiation.
+     */
+    private Profiling() {
+    }
+
+    /**
+     * Start the profiler.
+     * @param output The file, where the profile is saved, when JVM stops
+     * @param period Milliseconds between samples
+     */
+    public static synchronized void start(final Path output, final long period) {
+        if (Profiling.started) {
+            throw new IllegalStateException("The profiler is already started");
+        }
+        final Sampler sampler = new Sampler(Profiling.STACKS);
+        final Thread thread = new Thread(
+            () -> sampler.run(period), "eo-profiler"
+        );
+        thread.setDaemon(true);
+        Profiling.started = true;
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(
+            new Thread(() -> sampler.save(output), "eo-profile-saver")
+        );
+    }
+
+    /**
+     * Is the profiler started?
+     * @return TRUE if it is
+     */
+    static boolean isStarted() {
+        return Profiling.started;
+    }
+
+    /**
+     * Put the object on the shadow stack of the current thread.
+     * @param safe The object
+     * @return The stack, to remove the object from, or NULL if the
+     *  profiler is not started
+     */
+    static Frames entered(final PhSafe safe) {
+        Frames frames = null;
+        if (Profiling.started) {
+            frames = Profiling.FRAMES.get();
+            frames.push(safe);
+        }
+        return frames;
+    }
+
+    /**
+     * Shadow stack of one thread.
+     *
+     * <p>Only its own thread modifies it, while the sampler reads it.</p>
+     *
+     * @since 0.53
+     */
+    static final class Frames {
+        /**
+         * Objects on the stack, the outermost first.
+         */
+        private volatile PhSafe[] safes = new PhSafe[64];
+
+        /**
+         * Number of objects on the stack.
+         */
+        private volatile int depth;
+
+        /**
+         * Remove the innermost object from the stack.
+         */
+        void leave() {
+            final int top = this.depth - 1;
+            this.safes[top] = null;
+            this.depth = top;
+        }
+
+        /**
+         * Put the object on the stack.
+         * @param safe The object
+         */
+        void push(final PhSafe safe) {
+            final int top = this.depth;
+            if (top == this.safes.length) {
+                this.safes = Arrays.copyOf(this.safes, top * 2);
+            }
+            this.safes[top] = safe;
+            this.depth = top + 1;
+        }
+
+        /**
+         * The stack in collapsed format.
+         * @return Frames, separated by semicolons, or NULL if it's empty
+         */
+        private String collapsed() {
+            final int size = this.depth;
+            final PhSafe[] all = this.safes;
+            final StringBuilder stack = new StringBuilder(0);
+            for (int idx = 0; idx < Math.min(size, all.length); ++idx) {
+                final PhSafe safe = all[idx];
+                if (safe != null) {
+                    if (stack.length() > 0) {
+                        stack.append(';');
+                    }
+                    stack.append(safe.frame());
+                }
+            }
+            final String result;
+            if (stack.length() == 0) {
+                result = null;
+            } else {
+                result = stack.toString();
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Sampler of shadow stacks.
+     *
+     * @since 0.53
+     */
+    static final class Sampler {
+        /**
+         * Shadow stacks of threads.
+         */
+        private final Map<Thread, Frames> stacks;
+
+        /**
+         * Numbers of samples by stacks.
+         */
+        private final Map<String, Long> counts;
+
+        /**
+         * Ctor.
+         * @param stacks Shadow stacks of threads
+         */
+        Sampler(final Map<Thread, Frames> stacks) {
+            this.stacks = stacks;
+            this.counts = new HashMap<>(0);
+        }
+
+        /**
+         * Take samples, until the thread is interrupted.
+         * @param period Milliseconds between samples
+         */
+        void run(final long period) {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(period);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                this.sample();
+            }
+        }
+
+        /**
+         * Save the profile.
+         * @param output The file
+         */
+        void save(final Path output) {
+            try {
+                Files.write(output, this.profile().getBytes(StandardCharsets.UTF_8));
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        /**
+         * The profile in collapsed-stack format.
+         * @return Lines with stacks and numbers of their samples
+         */
+        String profile() {
+            synchronized (this.counts) {
+                return this.counts.entrySet().stream()
+                    .map(entry -> String.format("%s %d\n", entry.getKey(), entry.getValue()))
+                    .sorted()
+                    .collect(Collectors.joining());
+            }
+        }
+
+        /**
+         * Take one sample of all threads.
+         */
+        void sample() {
+            synchronized (this.counts) {
+                for (final Map.Entry<Thread, Frames> entry : this.stacks.entrySet()) {
+                    if (!entry.getKey().isAlive()) {
+                        this.stacks.remove(entry.getKey());
+                        continue;
+                    }
+                    final String stack = entry.getValue().collapsed();
+                    if (stack != null) {
+                        this.counts.merge(stack, 1L, Long::sum);
+                    }
+                }
+            }
+        }
+    }
+}
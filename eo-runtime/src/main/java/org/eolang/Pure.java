@@ -0,0 +1,28 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation for a pure atom.
+ *
+ * <p>The {@link Atom#lambda()} of a pure atom depends only on the
+ * attributes of the atom and doesn't have side effects. That's why
+ * {@link PhDefault} takes it only once for every object and then returns
+ * the same result, no matter how many times the object is dataized.
+ * Atoms, which touch the outside world, like files, console or system
+ * calls, must not be annotated.</p>
+ *
+ * @since 0.53
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Pure {
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events of the runtime.
+ *
+ * <p>Events are made and committed only if they are enabled in the
+ * recording, while all attributes of them, like forma of the object, are
+ * calculated only right before the commit. When nothing is recorded, an
+ * event costs one check of {@link Event#isEnabled()}. Events don't have
+ * stack traces, since the Java stack of EO objects says little. Copies
+ * of objects happen too often, that's why their events are disabled by
+ * default and must be enabled in the settings of the recording.</p>
+ *
+ * @since 0.53
+ */
+final class Recorded {
+    /**
+     * Not for instantiation.
+     */
+    private Recorded() {
+    }
+
+    /**
+     * Dataization of an object by {@link Dataized#take()}.
+     *
+     * @since 0.53
+     * @checkstyle VisibilityModifierCheck (50 lines)
+     */
+    @Name("org.eolang.Dataization")
+    @Label("Dataization")
+    @Description("Dataization of an EO object")
+    @Category("EO")
+    @StackTrace(false)
+    static final class Dataization extends Event {
+        /**
+         * Forma of the object.
+         */
+        @Label("Forma")
+        String forma;
+
+        /**
+         * Number of bytes.
+         */
+        @Label("Bytes")
+        @DataAmount
+        int bytes;
+    }
+
+    /**
+     * Call of {@link Atom#lambda()}.
+     *
+     * @since 0.53
+     * @checkstyle VisibilityModifierCheck (50 lines)
+     */
+    @Name("org.eolang.Lambda")
+    @Label("Lambda")
+    @Description("Call of λ of an EO atom")
+    @Category("EO")
+    @StackTrace(false)
+    static final class Lambda extends Event {
+        /**
+         * Class of the atom.
+         */
+        @Label("Atom")
+        Class<?> atom;
+    }
+
+    /**
+     * Copy of an object by {@link PhDefault#copy()}.
+     *
+     * @since 0.53
+     * @checkstyle VisibilityModifierCheck (50 lines)
+     */
+    @Name("org.eolang.Copy")
+    @Label("Copy")
+    @Description("Copy of an EO object")
+    @Category("EO")
+    @StackTrace(false)
+    @Enabled(false)
+    static final class Copy extends Event {
+        /**
+         * Forma of the object.
+         */
+        @Label("Forma")
+        String forma;
+    }
+
+    /**
+     * Loading of an object by {@link PhPackage}.
+     *
+     * @since 0.53
+     * @checkstyle VisibilityModifierCheck (50 lines)
+     */
+    @Name("org.eolang.Load")
+    @Label("Load")
+    @Description("Loading of an EO object or package")
+    @Category("EO")
+    @StackTrace(false)
+    static final class Load extends Event {
+        /**
+         * Fully qualified name of the object.
+         */
+        @Label("Object")
+        String object;
+    }
+}
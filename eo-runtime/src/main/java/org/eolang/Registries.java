@@ -0,0 +1,146 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * All registries of objects, found in the classpath.
+ *
+ * <p>The index is built only once, when the first object is taken
+ * from a {@link PhPackage}. After that, it is never modified, that's why
+ * the class is thread-safe.</p>
+ *
+ * @since 0.53
+ */
+final class Registries {
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(Registries.class.getName());
+
+    /**
+     * Registries, found in the classpath by {@link ServiceLoader}.
+     */
+    static final Registries INSTANCE = new Registries(
+        Registries.loaded(ServiceLoader.load(Registry.class))
+    );
+
+    /**
+     * Registries of transpiled objects, by Java names of objects.
+     */
+    private final Map<String, Registry> objects;
+
+    /**
+     * Java names of atoms.
+     */
+    private final Set<String> atoms;
+
+    /**
+     * Java names of packages.
+     */
+    private final Set<String> packages;
+
+    /**
+     * Ctor.
+     * @param all All registries
+     */
+    Registries(final Iterable<Registry> all) {
+        this.objects = new HashMap<>(0);
+        this.atoms = new HashSet<>(0);
+        this.packages = new HashSet<>(0);
+        for (final Registry registry : all) {
+            for (final String name : registry.objects()) {
+                this.objects.put(name, registry);
+                this.packaged(name);
+            }
+            for (final String name : registry.atoms()) {
+                this.atoms.add(name);
+                this.packaged(name);
+            }
+        }
+    }
+
+    /**
+     * Is it a known package?
+     * @param name Java name of the package, for example {@code EOorg.EOeolang}
+     * @return TRUE if some registered object is located in it
+     */
+    boolean isPackage(final String name) {
+        return this.packages.contains(name);
+    }
+
+    /**
+     * Is it a known transpiled object?
+     * @param name Java name of the object
+     * @return TRUE if it may be made by {@link #make(String)}
+     */
+    boolean isObject(final String name) {
+        return this.objects.containsKey(name);
+    }
+
+    /**
+     * Is it a known atom?
+     * @param name Java name of the object
+     * @return TRUE if it's registered as an atom
+     */
+    boolean isAtom(final String name) {
+        return this.atoms.contains(name);
+    }
+
+    /**
+     * Make a new transpiled object.
+     * @param name Java name of the object, which must be known
+     * @return New object
+     */
+    Phi make(final String name) {
+        return this.objects.get(name).make(name);
+    }
+
+    /**
+     * Register all packages the object is located in.
+     * @param name Java name of the object
+     */
+    private void packaged(final String name) {
+        int dot = name.lastIndexOf('.');
+        while (dot > 0 && this.packages.add(name.substring(0, dot))) {
+            dot = name.lastIndexOf('.', dot - 1);
+        }
+    }
+
+    /**
+     * Load all registries, skipping the broken ones.
+     * @param loader Service loader
+     * @return Registries
+     */
+    private static Iterable<Registry> loaded(final ServiceLoader<Registry> loader) {
+        final Set<Registry> all = new HashSet<>(0);
+        final Iterator<Registry> iterator = loader.iterator();
+        while (true) {
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                all.add(iterator.next());
+            } catch (final ServiceConfigurationError ex) {
+                Registries.LOGGER.log(
+                    Level.FINE,
+                    "Registry of objects is skipped since it can't be loaded",
+                    ex
+                );
+            }
+        }
+        return all;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import java.util.Collection;
+
+/**
+ * Registry of objects, generated at build time.
+ *
+ * <p>The eo-maven-plugin generates an implementation of this interface
+ * for every module it transpiles and registers it in
+ * {@code META-INF/services/org.eolang.Registry}. Thanks to that,
+ * {@link PhPackage} knows all objects and packages in advance
+ * and doesn't need to look for them in the file system.</p>
+ *
+ * <p>All names are Java names of objects,
+ * for example {@code EOorg.EOeolang.EOnumber}.</p>
+ *
+ * @since 0.53
+ */
+public interface Registry {
+    /**
+     * Java names of transpiled objects, which may be made by
+     * {@link #make(String)}.
+     * @return Names of objects
+     */
+    Collection<String> objects();
+
+    /**
+     * Java names of atoms, which are implemented in Java manually
+     * and must be loaded by their names.
+     * @return Names of atoms
+     */
+    Collection<String> atoms();
+
+    /**
+     * Make a new object.
+     * @param name Java name of the object, which is one of {@link #objects()}
+     * @return New object
+     */
+    Phi make(String name);
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import EOorg.EOeolang.EOerror;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route from an object to its decoratee, which owns the attribute.
+ *
+ * <p>When an attribute is absent in a {@link PhDefault}, it is taken from
+ * its decoratee: the result of λ, if it's an atom, or \phi. The decoratee
+ * may also miss the attribute, and so on. The route walks through all of
+ * them in a loop, passing by wrappers, like {@link PhSafe} and
+ * {@link PhOnce}, until it finds the owner of the attribute. An object,
+ * which carries a primitive, like {@link PhNumber}, is the owner of all
+ * attributes of the EO object it makes. If every
+ * step of the route always leads to the same object, the route is
+ * fixed and may be used again, to take the attribute from the owner
+ * right away.</p>
+ *
+ * <p>The route takes the attribute the same way a chain of
+ * {@link Phi#take(String)} calls does it: a failure is wrapped by every
+ * {@link PhSafe}, which was passed by, starting from the innermost one.</p>
+ *
+ * <p>The class is thread-safe and immutable.</p>
+ *
+ * @since 0.53
+ */
+final class Route {
+    /**
+     * Name of the attribute.
+     */
+    private final String name;
+
+    /**
+     * The owner of the attribute.
+     */
+    private final Phi owner;
+
+    /**
+     * Safe objects passed by, the outermost first.
+     */
+    private final PhSafe[] safes;
+
+    /**
+     * Does every step lead to the same object?
+     */
+    private final boolean fixed;
+
+    /**
+     * Ctor.
+     * @param name Name of the attribute
+     * @param owner The owner of the attribute
+     * @param safes Safe objects passed by, the outermost first
+     * @param fixed Does every step lead to the same object
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Route(final String name, final Phi owner, final PhSafe[] safes,
+        final boolean fixed) {
+        this.name = name;
+        this.owner = owner;
+        this.safes = safes;
+        this.fixed = fixed;
+    }
+
+    /**
+     * Find the route to the owner of the attribute.
+     * @param start The object, which doesn't have the attribute
+     * @param name Name of the attribute
+     * @return The route
+     * @checkstyle IllegalCatchCheck (30 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    static Route found(final PhDefault start, final String name) {
+        final List<PhSafe> passed = new ArrayList<>(0);
+        try {
+            Phi current = start.decoratee();
+            boolean fixed = start.isFixed(current);
+            Phi next = Route.next(current, name, passed);
+            while (next != null) {
+                if (current instanceof PhDefault) {
+                    fixed = fixed && ((PhDefault) current).isFixed(next);
+                }
+                current = next;
+                next = Route.next(current, name, passed);
+            }
+            return new Route(name, current, passed.toArray(new PhSafe[0]), fixed);
+        } catch (final Throwable ex) {
+            if (passed.isEmpty()) {
+                throw ex;
+            }
+            throw Route.failed(ex, passed.toArray(new PhSafe[0]));
+        }
+    }
+
+    /**
+     * Is it fixed, so that it may be used again?
+     * @return TRUE if every step always leads to the same object
+     */
+    boolean isFixed() {
+        return this.fixed;
+    }
+
+    /**
+     * Does it lead to the owner of the attribute?
+     * @param attr Name of the attribute
+     * @return TRUE if it does
+     */
+    boolean leadsTo(final String attr) {
+        return this.name.equals(attr);
+    }
+
+    /**
+     * Take the attribute from the owner.
+     * @return The attribute
+     * @checkstyle IllegalCatchCheck (15 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    Phi take() {
+        try {
+            return this.owner.take(this.name);
+        } catch (final Throwable ex) {
+            if (this.safes.length == 0) {
+                throw ex;
+            }
+            throw Route.failed(ex, this.safes);
+        }
+    }
+
+    /**
+     * The next step of the route.
+     * @param phi The object
+     * @param name Name of the attribute
+     * @param passed Safe objects passed by
+     * @return The next object or NULL if the attribute must be taken from this one
+     */
+    private static Phi next(final Phi phi, final String name, final List<PhSafe> passed) {
+        final Phi next;
+        if (phi instanceof PhDefault) {
+            final PhDefault obj = (PhDefault) phi;
+            if (obj.owns(name)) {
+                next = null;
+            } else {
+                next = obj.decoratee();
+            }
+        } else if (phi instanceof PhSafe) {
+            passed.add((PhSafe) phi);
+            next = ((PhSafe) phi).next();
+        } else if (phi instanceof PhOnce) {
+            next = ((PhOnce) phi).next();
+        } else if (phi instanceof Data.ToPhi) {
+            next = ((Data.ToPhi) phi).next();
+        } else {
+            next = null;
+        }
+        return next;
+    }
+
+    /**
+     * Wrap the failure by all safe objects passed by, the innermost first.
+     * @param ex The failure
+     * @param safes Safe objects, the outermost first, at least one
+     * @return The error
+     */
+    private static EOerror.ExError failed(final Throwable ex, final PhSafe... safes) {
+        EOerror.ExError error = safes[safes.length - 1].wrapped(ex, "");
+        for (int idx = safes.length - 2; idx >= 0; --idx) {
+            error = safes[idx].wrapped(error, "");
+        }
+        return error;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Layout of attributes of {@link PhDefault}.
+ *
+ * <p>A shape knows the slot of every attribute, the order of positional
+ * attributes and which slots are void. Shapes form a tree: every
+ * shape remembers the shapes which may be obtained from it by adding
+ * one more attribute. That's why all objects, which were constructed by
+ * the same sequence of {@link PhDefault#add(String, Attr)} calls, share
+ * the same shape, which is calculated only once.</p>
+ *
+ * <p>The class is thread-safe and immutable, except for the cache of
+ * transitions.</p>
+ *
+ * @since 0.53
+ */
+final class Shape {
+    /**
+     * Slot of the \rho attribute, in every shape.
+     */
+    static final int RHO = 0;
+
+    /**
+     * The root shape, which contains \rho only.
+     */
+    static final Shape ROOT = new Shape(
+        new String[] {Attr.RHO},
+        new int[0],
+        new boolean[] {false}
+    );
+
+    /**
+     * Attribute name matcher.
+     */
+    private static final Pattern SORTABLE = Pattern.compile(
+        String.format("^([a-z].*)|%s$", Attr.PHI)
+    );
+
+    /**
+     * Names of attributes, by slots.
+     */
+    private final String[] names;
+
+    /**
+     * Slots of attributes, by names.
+     */
+    private final Map<String, Integer> slots;
+
+    /**
+     * Slots of positional attributes, by positions.
+     */
+    private final int[] order;
+
+    /**
+     * Void or not, by slots.
+     */
+    private final boolean[] voids;
+
+    /**
+     * Slot of the \phi attribute or -1 if it's absent.
+     */
+    private final int phi;
+
+    /**
+     * Shapes made by adding one void attribute to this one.
+     */
+    private final Map<String, Shape> voided;
+
+    /**
+     * Shapes made by adding one non-void attribute to this one.
+     */
+    private final Map<String, Shape> bound;
+
+    /**
+     * Ctor.
+     * @param names Names of attributes, by slots
+     * @param order Slots of positional attributes
+     * @param voids Void or not, by slots
+     */
+    private Shape(final String[] names, final int[] order, final boolean[] voids) {
+        this.names = names;
+        this.order = order;
+        this.voids = voids;
+        this.slots = new HashMap<>(names.length);
+        for (int idx = 0; idx < names.length; ++idx) {
+            this.slots.put(names[idx], idx);
+        }
+        this.phi = this.slot(Attr.PHI);
+        this.voided = new ConcurrentHashMap<>(0);
+        this.bound = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Total number of slots.
+     * @return Number of attributes, including \rho
+     */
+    int size() {
+        return this.names.length;
+    }
+
+    /**
+     * Find slot of the attribute.
+     * @param name Name of the attribute
+     * @return Slot or -1 if the attribute is absent
+     */
+    int slot(final String name) {
+        final Integer slot = this.slots.get(name);
+        final int found;
+        if (slot == null) {
+            found = -1;
+        } else {
+            found = slot;
+        }
+        return found;
+    }
+
+    /**
+     * Slot of the \phi attribute.
+     * @return Slot or -1 if there is no \phi
+     */
+    int phi() {
+        return this.phi;
+    }
+
+    /**
+     * Total number of positional attributes.
+     * @return Number of them
+     */
+    int positions() {
+        return this.order.length;
+    }
+
+    /**
+     * Slot of the positional attribute.
+     * @param pos Position, which must be in range
+     * @return Slot
+     */
+    int position(final int pos) {
+        return this.order[pos];
+    }
+
+    /**
+     * Is it a void slot?
+     * @param slot The slot
+     * @return TRUE if the attribute was added as {@link AtVoid}
+     */
+    boolean isVoid(final int slot) {
+        return this.voids[slot];
+    }
+
+    /**
+     * Name of the attribute in the slot.
+     * @param slot The slot
+     * @return Name of the attribute
+     */
+    String name(final int slot) {
+        return this.names[slot];
+    }
+
+    /**
+     * All names, in the order of slots.
+     * @return Names of attributes
+     */
+    List<String> names() {
+        return Collections.unmodifiableList(Arrays.asList(this.names));
+    }
+
+    /**
+     * Shape with one more attribute at the end.
+     * @param name Name of the attribute, which must be absent here
+     * @param isvoid Is it void?
+     * @return New or cached shape
+     */
+    Shape with(final String name, final boolean isvoid) {
+        final Map<String, Shape> next;
+        if (isvoid) {
+            next = this.voided;
+        } else {
+            next = this.bound;
+        }
+        return next.computeIfAbsent(name, key -> this.grown(key, isvoid));
+    }
+
+    /**
+     * Make a new shape with one more attribute.
+     * @param name Name of the attribute
+     * @param isvoid Is it void?
+     * @return New shape
+     */
+    private Shape grown(final String name, final boolean isvoid) {
+        final int slot = this.names.length;
+        final String[] more = Arrays.copyOf(this.names, slot + 1);
+        more[slot] = name;
+        final boolean[] flags = Arrays.copyOf(this.voids, slot + 1);
+        flags[slot] = isvoid;
+        final int[] positions;
+        if (Shape.SORTABLE.matcher(name).matches()) {
+            positions = Arrays.copyOf(this.order, this.order.length + 1);
+            positions[this.order.length] = slot;
+        } else {
+            positions = this.order;
+        }
+        return new Shape(more, positions, flags);
+    }
+}
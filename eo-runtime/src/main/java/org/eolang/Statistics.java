@@ -0,0 +1,145 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of runtime events, by formas of objects.
+ *
+ * <p>The statistics must be installed at startup, before objects are
+ * dataized, for example by {@link Main} with the {@code --stats} option.
+ * When nothing is installed, the runtime checks one static field and
+ * doesn't count anything. Counters are {@link LongAdder}s, since many
+ * threads may increment the same one at the same time.</p>
+ *
+ * <p>The number of objects is an estimate: it counts objects, which were
+ * constructed or copied, but doesn't count their attributes.</p>
+ *
+ * @since 0.53
+ */
+public final class Statistics {
+    /**
+     * Installed statistics or NULL if nothing is counted.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    private static Statistics current;
+
+    /**
+     * Counters by formas.
+     */
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>(0);
+
+    /**
+     * Install the statistics.
+     * @param stats The statistics, which will count all events
+     */
+    public static void install(final Statistics stats) {
+        Statistics.current = stats;
+    }
+
+    /**
+     * Stop counting.
+     */
+    public static void uninstall() {
+        Statistics.current = null;
+    }
+
+    /**
+     * Installed statistics.
+     * @return The statistics or NULL if nothing is counted
+     */
+    static Statistics current() {
+        return Statistics.current;
+    }
+
+    /**
+     * Counters of the forma.
+     * @param forma The forma
+     * @return The counters
+     */
+    Counters of(final String forma) {
+        Counters found = this.counters.get(forma);
+        if (found == null) {
+            found = this.counters.computeIfAbsent(forma, key -> new Counters());
+        }
+        return found;
+    }
+
+    /**
+     * Table of all counters, the formas with most attributes taken first.
+     * @return The table, one forma per line, with a header
+     */
+    public String table() {
+        final List<Map.Entry<String, Counters>> rows = new ArrayList<>(this.counters.entrySet());
+        rows.sort(
+            Comparator.comparingLong(
+                (Map.Entry<String, Counters> row) -> row.getValue().takes.sum()
+            ).reversed().thenComparing(Map.Entry::getKey)
+        );
+        final StringBuilder table = new StringBuilder(0).append(
+            String.format(
+                "%12s %12s %12s %12s %12s %12s  %s%n",
+                "objects", "copies", "takes", "dataized", "lambdas", "bytes", "forma"
+            )
+        );
+        for (final Map.Entry<String, Counters> row : rows) {
+            final Counters cnt = row.getValue();
+            table.append(
+                String.format(
+                    "%12d %12d %12d %12d %12d %12d  %s%n",
+                    cnt.objects.sum(), cnt.copies.sum(), cnt.takes.sum(),
+                    cnt.dataizations.sum(), cnt.lambdas.sum(), cnt.bytes.sum(),
+                    row.getKey()
+                )
+            );
+        }
+        return table.toString();
+    }
+
+    /**
+     * Counters of one forma.
+     *
+     * @since 0.53
+     * @checkstyle VisibilityModifierCheck (50 lines)
+     */
+    static final class Counters {
+        /**
+         * Objects constructed or copied.
+         */
+        final LongAdder objects = new LongAdder();
+
+        /**
+         * Copies made.
+         */
+        final LongAdder copies = new LongAdder();
+
+        /**
+         * Attributes taken.
+         */
+        final LongAdder takes = new LongAdder();
+
+        /**
+         * Dataizations by {@link Dataized}.
+         */
+        final LongAdder dataizations = new LongAdder();
+
+        /**
+         * Calls of λ.
+         */
+        final LongAdder lambdas = new LongAdder();
+
+        /**
+         * Bytes produced by dataizations.
+         */
+        final LongAdder bytes = new LongAdder();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+import java.util.Collections;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Trace, which prints all events to the log, padded by their depth.
+ *
+ * @since 0.53
+ */
+final class TrLogged implements Trace {
+    /**
+     * Logger.
+     */
+    private final Logger log;
+
+    /**
+     * Ctor.
+     */
+    TrLogged() {
+        this(Logger.getLogger(PhDefault.class.getName()));
+    }
+
+    /**
+     * Ctor.
+     * @param logger The logger
+     */
+    TrLogged(final Logger logger) {
+        this.log = logger;
+    }
+
+    @Override
+    public void taken(final Phi object, final String attr, final int depth, final Phi result) {
+        if (this.log.isLoggable(Level.FINE)) {
+            this.log.log(
+                Level.FINE,
+                String.format(
+                    "%s\uD835\uDD38('%s' for %s) ➜ %s",
+                    String.join("", Collections.nCopies(depth, "·")),
+                    attr,
+                    object,
+                    result
+                )
+            );
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+/**
+ * Consumer of tracing events.
+ *
+ * <p>An instance of this interface may be installed by
+ * {@link Tracing#install(Trace)}, at startup. After that, it receives an event
+ * for every attribute taken by {@link PhDefault#take(String)}. When nothing
+ * is installed, no events are made and tracing costs nothing.</p>
+ *
+ * @since 0.53
+ */
+public interface Trace {
+    /**
+     * The attribute was taken.
+     * @param object The object, the attribute was taken from
+     * @param attr Name of the attribute
+     * @param depth Nesting level of the call, starting from one
+     * @param result The object, which was taken
+     */
+    void taken(Phi object, String attr, int depth, Phi result);
+}
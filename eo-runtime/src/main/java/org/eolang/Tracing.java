@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+package org.eolang;
+
+/**
+ * Tracing of {@link PhDefault#take(String)}.
+ *
+ * <p>The trace must be installed at startup, before objects are dataized,
+ * for example by {@link Main} with the {@code --verbose} option. When
+ * no trace is installed, {@link PhDefault} checks one static field and
+ * doesn't count nesting levels, doesn't format anything and doesn't
+ * touch any thread locals.</p>
+ *
+ * @since 0.53
+ */
+public final class Tracing {
+    /**
+     * Nesting levels of {@link PhDefault#take(String)} calls, by threads.
+     */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * Installed trace or NULL if tracing is off.
+     */
+    @SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+    private static Trace current;
+
+    /**
+     * Not for instantiation.
+     */
+    private Tracing() {
+    }
+
+    /**
+     * Install the trace.
+     * @param trace The trace, which will receive all events
+     */
+    public static void install(final Trace trace) {
+        Tracing.current = trace;
+    }
+
+    /**
+     * Turn tracing off.
+     */
+    public static void uninstall() {
+        Tracing.current = null;
+    }
+
+    /**
+     * Installed trace.
+     * @return The trace or NULL if tracing is off
+     */
+    static Trace current() {
+        return Tracing.current;
+    }
+
+    /**
+     * Take the attribute and report it to the trace.
+     * @param trace The trace
+     * @param object The object
+     * @param name Name of the attribute
+     * @return The attribute
+     */
+    static Phi traced(final Trace trace, final PhDefault object, final String name) {
+        final int[] depth = Tracing.DEPTH.get();
+        depth[0] += 1;
+        final int level = depth[0];
+        final Phi result;
+        try {
+            result = object.found(name);
+        } finally {
+            depth[0] -= 1;
+            if (depth[0] == 0) {
+                Tracing.DEPTH.remove();
+            }
+        }
+        trace.taken(object, name, level, result);
+        return result;
+    }
+}
@@ -45,4 +45,40 @@ final class EObytesEOconcatTest {
         );
     }
 
+    @Test
+    void concatenatesManyTimes() {
+        Phi bytes = new Data.ToPhi(new byte[0]);
+        for (int idx = 0; idx < 100; ++idx) {
+            bytes = new PhWith(
+                bytes.take("concat").copy(), "b", new Data.ToPhi(new byte[] {(byte) idx})
+            );
+        }
+        final byte[] expected = new byte[100];
+        for (int idx = 0; idx < expected.length; ++idx) {
+            expected[idx] = (byte) idx;
+        }
+        MatcherAssert.assertThat(
+            "all concatenated bytes must be in the result, in order",
+            new Dataized(bytes).take(),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    @Test
+    void concatenatesTheSameBytesTwice() {
+        final Phi left = new PhWith(
+            new Data.ToPhi(new byte[] {1}).take("concat").copy(),
+            "b", new Data.ToPhi(new byte[] {2})
+        );
+        new Dataized(
+            new PhWith(left.take("concat").copy(), "b", new Data.ToPhi(new byte[] {3}))
+        ).take();
+        MatcherAssert.assertThat(
+            "second concatenation of the same bytes must not see the first one",
+            new Dataized(
+                new PhWith(left.take("concat").copy(), "b", new Data.ToPhi(new byte[] {4}))
+            ).take(),
+            Matchers.equalTo(new byte[] {1, 2, 4})
+        );
+    }
 }
@@ -79,4 +79,22 @@ final class EObytesEOsliceTest {
         );
     }
 
+    @Test
+    void padsSliceBeyondEndWithZeros() {
+        MatcherAssert.assertThat(
+            "slice beyond the end must be padded with zeros",
+            new Dataized(
+                new PhWith(
+                    new PhWith(
+                        new Data.ToPhi("hello").take("as-bytes").take("slice").copy(),
+                        "start",
+                        new Data.ToPhi(3)
+                    ),
+                    "len",
+                    new Data.ToPhi(5)
+                )
+            ).take(),
+            Matchers.equalTo(new byte[] {'l', 'o', 0, 0, 0})
+        );
+    }
 }
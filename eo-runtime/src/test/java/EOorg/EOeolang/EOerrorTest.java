@@ -10,6 +10,7 @@
 package EOorg.EOeolang; // NOPMD
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 import org.eolang.AtComposite;
 import org.eolang.AtCompositeTest;
@@ -64,6 +65,61 @@ final class EOerrorTest {
         );
     }
 
+    @Test
+    void doesNotFillInStackTrace() {
+        MatcherAssert.assertThat(
+            "Error must not have stack trace, since it is used for control flow",
+            new EOerror.ExError(new Data.ToPhi("stackless")).getStackTrace(),
+            Matchers.emptyArray()
+        );
+    }
+
+    @Test
+    void dataizesEnclosureOnlyWhenMessageIsAsked() {
+        final AtomicInteger count = new AtomicInteger();
+        final EOerror.ExError error = new EOerror.ExError(
+            new PhDefault() {
+                @Override
+                public byte[] delta() {
+                    count.incrementAndGet();
+                    return new byte[] {0x01};
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "Enclosure must not be dataized before the message is asked",
+            count.get(),
+            Matchers.equalTo(0)
+        );
+        MatcherAssert.assertThat(
+            "Message must contain the data of enclosure",
+            error.getMessage(),
+            Matchers.containsString("[0x01] = true")
+        );
+    }
+
+    @Test
+    void makesMessagesOnlyWhenAsked() {
+        final AtomicInteger count = new AtomicInteger();
+        final EOerror.ExError error = new EOerror.ExError(
+            new EOerror.ExError(new Data.ToPhi("lazy"), "first"),
+            () -> {
+                count.incrementAndGet();
+                return "second";
+            }
+        );
+        MatcherAssert.assertThat(
+            "Message must not be made before messages are asked",
+            count.get(),
+            Matchers.equalTo(0)
+        );
+        MatcherAssert.assertThat(
+            "Messages must go in the order they were seen",
+            error.messages(),
+            Matchers.contains("first", "second")
+        );
+    }
+
     /**
      * Static method providing sources for parameterized test.
      * @return Stream of sources.
@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOfs; // NOPMD
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for reading a large file by blocks, comparing
+ * {@link Files}, which is used by {@code file.open}, with reading
+ * of an {@link InputStream} byte by byte, the way it was done before.
+ *
+ * <p>The benchmark is here, not in the {@code benchmarks} package,
+ * since {@link Files} is not visible out of its package. Reading byte by
+ * byte takes seconds for one operation, that's why the mode is single
+ * shot.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (100 lines)
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+@SuppressWarnings({"JTCOP.RuleAllTestsHaveProductionClass", "JTCOP.RuleCorrectTestName"})
+public class FilesBench {
+    /**
+     * Size of the file.
+     */
+    private static final int TOTAL = 32 << 20;
+
+    /**
+     * Size of one read.
+     */
+    @Param({"4096", "1048576"})
+    private int chunk;
+
+    /**
+     * The file.
+     */
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void makeFile() throws IOException {
+        this.file = java.nio.file.Files.createTempFile("bench", ".bin");
+        java.nio.file.Files.write(this.file, new byte[FilesBench.TOTAL]);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        java.nio.file.Files.delete(this.file);
+    }
+
+    @Benchmark
+    public long readsByChannel() throws IOException {
+        final String name = this.file.toString();
+        final Files files = Files.current();
+        files.open(name);
+        long total = 0L;
+        int read = this.chunk;
+        while (read == this.chunk) {
+            read = files.read(name, this.chunk).length;
+            total += read;
+        }
+        files.close(name);
+        return total;
+    }
+
+    @Benchmark
+    @SuppressWarnings("PMD.AssignmentInOperand")
+    public long readsByteByByte() throws IOException {
+        long total = 0L;
+        try (InputStream input = java.nio.file.Files.newInputStream(this.file)) {
+            int processed = this.chunk;
+            while (processed == this.chunk) {
+                final byte[] read = new byte[this.chunk];
+                int character;
+                processed = 0;
+                while (processed < this.chunk && (character = input.read()) != -1) {
+                    read[processed] = (byte) character;
+                    ++processed;
+                }
+                total += processed;
+            }
+        }
+        return total;
+    }
+}
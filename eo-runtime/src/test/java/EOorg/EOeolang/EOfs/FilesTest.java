@@ -11,11 +11,15 @@ package EOorg.EOeolang.EOfs; // NOPMD
 
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
+import com.yegor256.Together;
 import java.io.BufferedWriter;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Random;
+import org.eolang.Context;
 import org.eolang.ExFailure;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -33,7 +37,7 @@ final class FilesTest {
     void throwsOnReadingWithoutOpening(@Mktmp final Path dir) {
         Assertions.assertThrows(
             ExFailure.class,
-            () -> Files.INSTANCE.read(
+            () -> Files.current().read(
                 dir.resolve("c.txt").toFile().getAbsolutePath(), 10
             ),
             "File should not allow to read before opening"
@@ -44,7 +48,7 @@ final class FilesTest {
     void throwsOnWritingWithoutOpening(@Mktmp final Path dir) {
         Assertions.assertThrows(
             ExFailure.class,
-            () -> Files.INSTANCE.write(
+            () -> Files.current().write(
                 dir.resolve("b.txt").toFile().getAbsolutePath(),
                 new byte[]{0x01}
             ),
@@ -56,7 +60,7 @@ final class FilesTest {
     void throwsOnClosingWithoutOpening(@Mktmp final Path dir) {
         Assertions.assertThrows(
             ExFailure.class,
-            () -> Files.INSTANCE.close(
+            () -> Files.current().close(
                 dir.resolve("a.txt").toFile().getAbsolutePath()
             ),
             "File should not allow to close before opening"
@@ -70,13 +74,13 @@ final class FilesTest {
             java.nio.file.Files.newBufferedWriter(Paths.get(file))) {
             writer.write("Hello, world");
         }
-        Files.INSTANCE.open(file);
+        Files.current().open(file);
         MatcherAssert.assertThat(
             "The string should have been read from file",
-            Files.INSTANCE.read(file, 12),
+            Files.current().read(file, 12),
             Matchers.equalTo("Hello, world".getBytes(StandardCharsets.UTF_8))
         );
-        Files.INSTANCE.close(file);
+        Files.current().close(file);
     }
 
     @Test
@@ -86,13 +90,105 @@ final class FilesTest {
             java.nio.file.Files.newBufferedWriter(Paths.get(file))) {
             writer.write("Hello, world");
         }
-        Files.INSTANCE.open(file);
-        Files.INSTANCE.write(file, "!".getBytes(StandardCharsets.UTF_8));
+        Files.current().open(file);
+        Files.current().write(file, "!".getBytes(StandardCharsets.UTF_8));
         MatcherAssert.assertThat(
             "The string should have been read from file",
-            Files.INSTANCE.read(file, 13),
+            Files.current().read(file, 13),
             Matchers.equalTo("Hello, world!".getBytes(StandardCharsets.UTF_8))
         );
-        Files.INSTANCE.close(file);
+        Files.current().close(file);
+    }
+
+    @Test
+    void readsFileLargerThanBuffer(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("large.bin");
+        final byte[] bytes = new byte[200_000];
+        new Random(0L).nextBytes(bytes);
+        java.nio.file.Files.write(path, bytes);
+        final String file = path.toFile().getAbsolutePath();
+        Files.current().open(file);
+        final byte[] first = Files.current().read(file, 150_000);
+        final byte[] second = Files.current().read(file, 150_000);
+        Files.current().close(file);
+        final byte[] read = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, read, first.length, second.length);
+        MatcherAssert.assertThat(
+            "The file must be read by blocks, till its end",
+            read,
+            Matchers.equalTo(bytes)
+        );
+    }
+
+    @Test
+    void readsNothingAfterEnd(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("short.txt");
+        java.nio.file.Files.write(path, new byte[] {1, 2});
+        final String file = path.toFile().getAbsolutePath();
+        Files.current().open(file);
+        Files.current().read(file, 5);
+        MatcherAssert.assertThat(
+            "Nothing must be read, when the file is over",
+            Files.current().read(file, 5),
+            Matchers.equalTo(new byte[0])
+        );
+        Files.current().close(file);
+    }
+
+    @Test
+    void writesToFilesInThreads(@Mktmp final Path dir) {
+        MatcherAssert.assertThat(
+            "Every thread must read back what it wrote to its own file",
+            new Together<>(
+                thread -> {
+                    final Path path = dir.resolve(String.format("%d.txt", thread));
+                    java.nio.file.Files.write(path, new byte[0]);
+                    final String file = path.toFile().getAbsolutePath();
+                    final byte[] bytes = String.format("thread %d", thread)
+                        .getBytes(StandardCharsets.UTF_8);
+                    Files.current().open(file);
+                    Files.current().write(file, bytes);
+                    final byte[] read = Files.current().read(file, bytes.length);
+                    Files.current().close(file);
+                    return Arrays.equals(bytes, read);
+                }
+            ),
+            Matchers.not(Matchers.hasItem(false))
+        );
+    }
+
+    @Test
+    void appendsFromTwoContexts(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("shared.txt");
+        java.nio.file.Files.write(path, new byte[0]);
+        final String file = path.toFile().getAbsolutePath();
+        final int records = 1000;
+        MatcherAssert.assertThat(
+            "Every context must append its records through its own stream",
+            new Together<>(
+                2,
+                thread -> {
+                    try (Context context = new Context()) {
+                        final Files files = context.within(Files::current);
+                        files.open(file);
+                        final byte[] record = String.format("context %d%n", thread)
+                            .getBytes(StandardCharsets.UTF_8);
+                        for (int idx = 0; idx < records; ++idx) {
+                            files.write(file, record);
+                        }
+                    }
+                    return true;
+                }
+            ),
+            Matchers.not(Matchers.hasItem(false))
+        );
+        MatcherAssert.assertThat(
+            "Every record of every context must be appended to the end of the file",
+            java.nio.file.Files.readAllLines(path, StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.hasSize(2 * records),
+                Matchers.everyItem(Matchers.matchesPattern("context [01]"))
+            )
+        );
     }
 }
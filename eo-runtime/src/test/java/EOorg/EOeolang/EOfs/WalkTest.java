@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (10 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOfs; // NOPMD
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Walk}.
+ * @since 0.53
+ */
+@ExtendWith(MktmpResolver.class)
+final class WalkTest {
+    @Test
+    void matchesAbsolutePaths(@Mktmp final Path dir) throws IOException {
+        java.nio.file.Files.createDirectories(dir.resolve("foo"));
+        java.nio.file.Files.createFile(dir.resolve("foo/inner.txt"));
+        java.nio.file.Files.createFile(dir.resolve("top.txt"));
+        try (Stream<Path> found = new Walk(dir, "**/*.txt").found()) {
+            MatcherAssert.assertThat(
+                "All files should match, since their paths are absolute",
+                found.collect(Collectors.toList()),
+                Matchers.containsInAnyOrder(dir.resolve("foo/inner.txt"), dir.resolve("top.txt"))
+            );
+        }
+        try (Stream<Path> found = new Walk(dir, "*.txt").found()) {
+            MatcherAssert.assertThat(
+                "Nothing should match the glob of a relative path",
+                found.collect(Collectors.toList()),
+                Matchers.empty()
+            );
+        }
+    }
+
+    @Test
+    void findsDirectoryItself(@Mktmp final Path dir) throws IOException {
+        try (Stream<Path> found = new Walk(dir, "**").found()) {
+            MatcherAssert.assertThat(
+                "The directory should be found by the glob matching everything",
+                found.collect(Collectors.toList()),
+                Matchers.contains(dir)
+            );
+        }
+    }
+
+    @Test
+    void findsSameFilesInParallel(@Mktmp final Path dir) throws IOException {
+        for (int idx = 0; idx < 20; ++idx) {
+            final Path sub = dir.resolve(String.format("d%d/e%d", idx % 4, idx));
+            java.nio.file.Files.createDirectories(sub);
+            java.nio.file.Files.createFile(sub.resolve("a.txt"));
+            java.nio.file.Files.createFile(sub.resolve("b.bin"));
+        }
+        final List<Path> sequential;
+        try (Stream<Path> found = new Walk(dir, "**").found()) {
+            sequential = found.collect(Collectors.toList());
+        }
+        MatcherAssert.assertThat(
+            "Files should be found in parallel in the same order",
+            new Walk(dir, "**").foundInParallel(),
+            Matchers.equalTo(sequential)
+        );
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/*
+ * @checkstyle PackageNameCheck (10 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOfs; // NOPMD
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Walks}.
+ * @since 0.53
+ */
+@ExtendWith(MktmpResolver.class)
+final class WalksTest {
+    @Test
+    void findsAllFilesByChunks(@Mktmp final Path dir) throws IOException {
+        WalksTest.populate(dir);
+        final List<Path> all = new ArrayList<>(0);
+        List<Path> chunk = Walks.current().chunk(dir, "**.txt", 0L, 3);
+        while (!chunk.isEmpty()) {
+            all.addAll(chunk);
+            chunk = Walks.current().chunk(dir, "**.txt", all.size(), 3);
+        }
+        MatcherAssert.assertThat(
+            "All files should be found by chunks, in order",
+            all,
+            Matchers.equalTo(WalksTest.walked(dir))
+        );
+    }
+
+    @Test
+    void findsChunkOutOfOrder(@Mktmp final Path dir) throws IOException {
+        WalksTest.populate(dir);
+        Walks.current().chunk(dir, "**.txt", 6L, 2);
+        MatcherAssert.assertThat(
+            "The chunk should be found again, after the walk went further",
+            Walks.current().chunk(dir, "**.txt", 2L, 2),
+            Matchers.equalTo(WalksTest.walked(dir).subList(2, 4))
+        );
+    }
+
+    @Test
+    void remembersLastChunk(@Mktmp final Path dir) throws IOException {
+        WalksTest.populate(dir);
+        final List<Path> chunk = Walks.current().chunk(dir, "**.txt", 4L, 2);
+        MatcherAssert.assertThat(
+            "The same chunk should be taken again without walking",
+            Walks.current().chunk(dir, "**.txt", 4L, 2),
+            Matchers.sameInstance(chunk)
+        );
+    }
+
+    @Test
+    void walksAgainAfterFinish(@Mktmp final Path dir) throws IOException {
+        WalksTest.populate(dir);
+        Walks.current().chunk(dir, "**.txt", 0L, 100);
+        java.nio.file.Files.createFile(dir.resolve("new.txt"));
+        MatcherAssert.assertThat(
+            "The finished walk should be forgotten and started again",
+            Walks.current().chunk(dir, "**.txt", 0L, 100),
+            Matchers.hasItem(dir.resolve("new.txt"))
+        );
+    }
+
+    /**
+     * Make files in the directory.
+     * @param dir The directory
+     * @throws IOException If fails
+     */
+    private static void populate(final Path dir) throws IOException {
+        for (int idx = 0; idx < 10; ++idx) {
+            final Path sub = dir.resolve(String.format("d%d", idx % 3));
+            java.nio.file.Files.createDirectories(sub);
+            java.nio.file.Files.createFile(sub.resolve(String.format("f%d.txt", idx)));
+        }
+    }
+
+    /**
+     * All text files in the directory.
+     * @param dir The directory
+     * @return Files
+     * @throws IOException If fails
+     */
+    private static List<Path> walked(final Path dir) throws IOException {
+        try (Stream<Path> found = new Walk(dir, "**.txt").found()) {
+            return found.collect(Collectors.toList());
+        }
+    }
+}
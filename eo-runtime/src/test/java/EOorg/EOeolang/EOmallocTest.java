@@ -41,7 +41,7 @@ final class EOmallocTest {
         ).take();
         Assertions.assertThrows(
             ExAbstract.class,
-            () -> Heaps.INSTANCE.free((int) dummy.id),
+            () -> Heaps.current().free((int) dummy.id),
             AtCompositeTest.TO_ADD_MESSAGE
         );
     }
@@ -61,7 +61,7 @@ final class EOmallocTest {
         );
         Assertions.assertThrows(
             ExAbstract.class,
-            () -> Heaps.INSTANCE.free((int) dummy.id),
+            () -> Heaps.current().free((int) dummy.id),
             AtCompositeTest.TO_ADD_MESSAGE
         );
     }
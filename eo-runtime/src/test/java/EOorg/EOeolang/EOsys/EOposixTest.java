@@ -8,7 +8,11 @@
  */
 package EOorg.EOeolang.EOsys; // NOPMD
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import org.eolang.Context;
 import org.eolang.Data;
 import org.eolang.Dataized;
 import org.eolang.PhWith;
@@ -50,4 +54,36 @@ final class EOposixTest {
             )
         );
     }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void writesToConsoleOfContext() throws IOException {
+        final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        try (Context context = new Context(stdout, new ByteArrayOutputStream())) {
+            context.within(
+                () -> new Dataized(
+                    new PhWith(
+                        new PhWith(
+                            Phi.Φ.take("org.eolang.sys.posix").copy(),
+                            "name",
+                            new Data.ToPhi("write")
+                        ),
+                        "args",
+                        new Data.ToPhi(
+                            new Phi[] {
+                                new Data.ToPhi(1L),
+                                new Data.ToPhi("Hello, world!"),
+                                new Data.ToPhi(5L),
+                            }
+                        )
+                    ).take("code")
+                ).take()
+            );
+        }
+        MatcherAssert.assertThat(
+            "The \"write\" system call must write to the console of the context",
+            stdout.toString(StandardCharsets.UTF_8),
+            Matchers.equalTo("Hello")
+        );
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+/*
+ * @checkstyle PackageNameCheck (4 lines)
+ * @checkstyle TrailingCommentCheck (3 lines)
+ */
+package EOorg.EOeolang.EOtxt; // NOPMD
+
+import com.yegor256.Together;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Patterns}.
+ *
+ * @since 0.53
+ */
+final class PatternsTest {
+    @Test
+    void compilesSourceOnlyOnce() {
+        MatcherAssert.assertThat(
+            "The same pattern must be returned for the same source",
+            Patterns.compiled("[a-z]+[0-9]*"),
+            Matchers.sameInstance(Patterns.compiled("[a-z]+[0-9]*"))
+        );
+    }
+
+    @Test
+    void keepsFlagsOfSource() {
+        MatcherAssert.assertThat(
+            "Flags inside the source must be applied to the pattern",
+            Patterns.compiled("(?i)[a-z]+").matcher("HELLO").matches(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void compilesManySourcesInThreads() {
+        MatcherAssert.assertThat(
+            "Every pattern must be compiled from its own source, while others are forgotten",
+            new Together<>(
+                thread -> {
+                    boolean right = true;
+                    for (int idx = 0; idx < 1000; ++idx) {
+                        final int size = thread * 1000 + idx;
+                        right &= Patterns.compiled(String.format("a{%d}", size))
+                            .matcher("a".repeat(size))
+                            .matches();
+                    }
+                    return right;
+                }
+            ),
+            Matchers.not(Matchers.hasItem(false))
+        );
+    }
+}
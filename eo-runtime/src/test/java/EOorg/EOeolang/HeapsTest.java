@@ -9,6 +9,13 @@
  */
 package EOorg.EOeolang; // NOPMD
 
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import com.yegor256.Together;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.function.Supplier;
 import org.eolang.AtComposite;
 import org.eolang.AtCompositeTest;
@@ -20,6 +27,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
  * Test case for {@link Heaps}.
@@ -27,15 +35,16 @@ import org.junit.jupiter.api.Test;
  * @since 0.19
  */
 @SuppressWarnings("PMD.TooManyMethods")
+@ExtendWith(MktmpResolver.class)
 final class HeapsTest {
     /**
      * Heaps.
      */
-    private static final Heaps HEAPS = Heaps.INSTANCE;
+    private static final Heaps HEAPS = Heaps.current();
 
     @Test
     void allocatesMemory() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 10);
+        final int idx = HeapsTest.HEAPS.malloc(10);
         Assertions.assertDoesNotThrow(
             () -> HeapsTest.HEAPS.read(idx, 0, 10),
             AtCompositeTest.TO_ADD_MESSAGE
@@ -44,20 +53,21 @@ final class HeapsTest {
     }
 
     @Test
-    void failsOnDoubleAllocation() {
-        final Phi phi = new HeapsTest.PhFake();
-        final int idx = HeapsTest.HEAPS.malloc(phi, 10);
-        Assertions.assertThrows(
-            ExFailure.class,
-            () -> HeapsTest.HEAPS.malloc(phi, 10),
-            AtCompositeTest.TO_ADD_MESSAGE
+    void givesUniqueIdentifiers() {
+        final int first = HeapsTest.HEAPS.malloc(10);
+        final int second = HeapsTest.HEAPS.malloc(10);
+        HeapsTest.HEAPS.free(first);
+        HeapsTest.HEAPS.free(second);
+        MatcherAssert.assertThat(
+            "Every allocated block must have its own identifier",
+            second,
+            Matchers.not(Matchers.equalTo(first))
         );
-        HeapsTest.HEAPS.free(idx);
     }
 
     @Test
     void allocatesAndReadsEmptyBytes() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         MatcherAssert.assertThat(
             AtCompositeTest.TO_ADD_MESSAGE,
             HeapsTest.HEAPS.read(idx, 0, 5),
@@ -68,7 +78,7 @@ final class HeapsTest {
 
     @Test
     void writesAndReads() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         final byte[] bytes = {1, 2, 3, 4, 5};
         HeapsTest.HEAPS.write(idx, 0, bytes);
         MatcherAssert.assertThat(
@@ -99,7 +109,7 @@ final class HeapsTest {
 
     @Test
     void failsOnReadIfOutOfBounds() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 2);
+        final int idx = HeapsTest.HEAPS.malloc(2);
         Assertions.assertThrows(
             ExFailure.class,
             () -> HeapsTest.HEAPS.read(idx, 1, 3),
@@ -109,7 +119,7 @@ final class HeapsTest {
 
     @Test
     void readsByOffsetAndLength() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         HeapsTest.HEAPS.write(idx, 0, new byte[] {1, 2, 3, 4, 5});
         MatcherAssert.assertThat(
             AtCompositeTest.TO_ADD_MESSAGE,
@@ -120,7 +130,7 @@ final class HeapsTest {
 
     @Test
     void failsOnWriteMoreThanAllocated() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 2);
+        final int idx = HeapsTest.HEAPS.malloc(2);
         final byte[] bytes = {1, 2, 3, 4, 5};
         Assertions.assertThrows(
             ExFailure.class,
@@ -132,7 +142,7 @@ final class HeapsTest {
 
     @Test
     void failsToWriteMoreThanAllocatedWithOffset() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 3);
+        final int idx = HeapsTest.HEAPS.malloc(3);
         final byte[] bytes = {1, 2, 3};
         Assertions.assertThrows(
             ExFailure.class,
@@ -144,7 +154,7 @@ final class HeapsTest {
 
     @Test
     void concatsOnWriteLessThanAllocated() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         HeapsTest.HEAPS.write(idx, 0, new byte[] {1, 1, 3, 4, 5});
         HeapsTest.HEAPS.write(idx, 2, new byte[] {2, 2});
         MatcherAssert.assertThat(
@@ -157,7 +167,7 @@ final class HeapsTest {
 
     @Test
     void freesSuccessfully() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         HeapsTest.HEAPS.free(idx);
         Assertions.assertThrows(
             ExFailure.class,
@@ -186,7 +196,7 @@ final class HeapsTest {
 
     @Test
     void returnsValidSize() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         MatcherAssert.assertThat(
             "Heaps should return valid size of allocated block, but it didn't",
             HeapsTest.HEAPS.size(idx),
@@ -197,7 +207,7 @@ final class HeapsTest {
 
     @Test
     void throwsOnChangingSizeToNegative() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         Assertions.assertThrows(
             ExFailure.class,
             () -> HeapsTest.HEAPS.resize(idx, -1),
@@ -217,7 +227,7 @@ final class HeapsTest {
 
     @Test
     void increasesSizeSuccessfully() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         final byte[] bytes = {1, 2, 3, 4, 5};
         HeapsTest.HEAPS.write(idx, 0, bytes);
         HeapsTest.HEAPS.resize(idx, 7);
@@ -231,7 +241,7 @@ final class HeapsTest {
 
     @Test
     void decreasesSizeSuccessfully() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         final byte[] bytes = {1, 2, 3, 4, 5};
         HeapsTest.HEAPS.write(idx, 0, bytes);
         HeapsTest.HEAPS.resize(idx, 3);
@@ -245,7 +255,7 @@ final class HeapsTest {
 
     @Test
     void returnsValidSizeAfterDecreasing() {
-        final int idx = HeapsTest.HEAPS.malloc(new HeapsTest.PhFake(), 5);
+        final int idx = HeapsTest.HEAPS.malloc(5);
         final byte[] bytes = {1, 2, 3, 4, 5};
         HeapsTest.HEAPS.write(idx, 0, bytes);
         HeapsTest.HEAPS.resize(idx, 3);
@@ -257,6 +267,94 @@ final class HeapsTest {
         HeapsTest.HEAPS.free(idx);
     }
 
+    @Test
+    void keepsZerosAfterDecreasingAndIncreasing() {
+        final int idx = HeapsTest.HEAPS.malloc(5);
+        HeapsTest.HEAPS.write(idx, 0, new byte[] {1, 2, 3, 4, 5});
+        HeapsTest.HEAPS.resize(idx, 2);
+        HeapsTest.HEAPS.resize(idx, 4);
+        MatcherAssert.assertThat(
+            "Bytes cut by decreasing must not come back after increasing",
+            HeapsTest.HEAPS.read(idx, 0, 4),
+            Matchers.equalTo(new byte[] {1, 2, 0, 0})
+        );
+        HeapsTest.HEAPS.free(idx);
+    }
+
+    @Test
+    void writesAfterIncreasingManyTimes() {
+        final int idx = HeapsTest.HEAPS.malloc(0);
+        for (int size = 1; size <= 100; ++size) {
+            HeapsTest.HEAPS.resize(idx, size);
+            HeapsTest.HEAPS.write(idx, size - 1, new byte[] {(byte) size});
+        }
+        MatcherAssert.assertThat(
+            "Block must keep all bytes written while it was growing",
+            HeapsTest.HEAPS.read(idx, 97, 3),
+            Matchers.equalTo(new byte[] {98, 99, 100})
+        );
+        HeapsTest.HEAPS.free(idx);
+    }
+
+    @Test
+    void writesAndReadsOutOfHeap() {
+        final int idx = HeapsTest.HEAPS.direct(2);
+        HeapsTest.HEAPS.write(idx, 0, new byte[] {1, 2});
+        HeapsTest.HEAPS.resize(idx, 4);
+        HeapsTest.HEAPS.write(idx, 3, new byte[] {4});
+        MatcherAssert.assertThat(
+            "Block out of the heap must keep bytes, while it's growing",
+            HeapsTest.HEAPS.read(idx, 0, 4),
+            Matchers.equalTo(new byte[] {1, 2, 0, 4})
+        );
+        HeapsTest.HEAPS.free(idx);
+    }
+
+    @Test
+    void writesMappedBlockToFile(@Mktmp final Path temp) throws IOException {
+        final Path file = temp.resolve("mapped.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5});
+        final int idx = HeapsTest.HEAPS.mapped(file, 1L, 3);
+        HeapsTest.HEAPS.write(idx, 1, new byte[] {9});
+        HeapsTest.HEAPS.free(idx);
+        MatcherAssert.assertThat(
+            "Bytes written to the mapped block must be in the region of the file",
+            Files.readAllBytes(file),
+            Matchers.equalTo(new byte[] {1, 2, 9, 4, 5})
+        );
+    }
+
+    @Test
+    void extendsFileByMappedBlock(@Mktmp final Path temp) {
+        final Path file = temp.resolve("extended.bin");
+        final int idx = HeapsTest.HEAPS.mapped(file, 0L, 2);
+        HeapsTest.HEAPS.resize(idx, 8);
+        MatcherAssert.assertThat(
+            "File must be extended to the region of the resized block",
+            file.toFile().length(),
+            Matchers.equalTo(8L)
+        );
+        HeapsTest.HEAPS.free(idx);
+    }
+
+    @Test
+    void writesAndReadsInThreads() {
+        MatcherAssert.assertThat(
+            "Every thread must read back the bytes it wrote to its own block",
+            new Together<>(
+                thread -> {
+                    final int idx = HeapsTest.HEAPS.malloc(4);
+                    final byte[] bytes = {(byte) thread, 1, 2, 3};
+                    HeapsTest.HEAPS.write(idx, 0, bytes);
+                    final byte[] read = HeapsTest.HEAPS.read(idx, 0, bytes.length);
+                    HeapsTest.HEAPS.free(idx);
+                    return Arrays.equals(bytes, read);
+                }
+            ),
+            Matchers.not(Matchers.hasItem(false))
+        );
+    }
+
     /**
      * Fake object, mostly for unit tests.
      *
@@ -0,0 +1,52 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eolang.Data;
+import org.eolang.Phi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for making EO objects out of Java values by
+ * {@link Data.ToPhi}, which takes objects of {@code org.eolang} from
+ * the package only once and interns small integer numbers.
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (100 lines)
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings({"JTCOP.RuleAllTestsHaveProductionClass", "JTCOP.RuleCorrectTestName"})
+public class DataBench {
+
+    @Benchmark
+    public Phi makesSmallInteger() {
+        return new Data.ToPhi(42L);
+    }
+
+    @Benchmark
+    public Phi makesLargeNumber() {
+        return new Data.ToPhi(4_242_424.2);
+    }
+
+    @Benchmark
+    public Phi makesString() {
+        return new Data.ToPhi("x");
+    }
+}
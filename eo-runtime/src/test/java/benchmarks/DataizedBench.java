@@ -0,0 +1,88 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.eolang.Data;
+import org.eolang.Dataized;
+import org.eolang.PhCopy;
+import org.eolang.PhDefault;
+import org.eolang.PhMethod;
+import org.eolang.PhNumber;
+import org.eolang.PhSafe;
+import org.eolang.PhWith;
+import org.eolang.Phi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for dataization of numbers: a chain of additions, like
+ * {@code ((x.plus 1).plus 1).plus 1} in EO, made the same way the
+ * generated code makes it, where every {@code plus} returns a
+ * {@link PhNumber} and finds the number in its \rho as a primitive;
+ * and a number decoded from bytes by {@link Dataized#asDouble()}, and
+ * through {@link ByteBuffer} with boxing, the way it was done before.
+ *
+ * <p>The chain is made again for every dataization, since atoms of
+ * {@code number} are pure and remember their results.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (100 lines)
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings({"JTCOP.RuleAllTestsHaveProductionClass", "JTCOP.RuleCorrectTestName"})
+public class DataizedBench {
+
+    /**
+     * Number of additions in the chain.
+     */
+    @Param({"1", "16"})
+    private int additions;
+
+    /**
+     * Number as bytes only.
+     */
+    private final Phi encoded = new PhDefault(
+        ByteBuffer.allocate(Double.BYTES).putDouble(42.0).array()
+    );
+
+    @Benchmark
+    public double addsInChain() {
+        Phi chain = new Data.ToPhi(42.0);
+        for (int idx = 0; idx < this.additions; ++idx) {
+            Phi plus = new PhMethod(chain, "plus");
+            plus = new PhCopy(plus);
+            plus = new PhWith(plus, 0, new PhSafe(new Data.ToPhi(1.0), "bench", 1, 12));
+            chain = new PhSafe(plus, "bench", 1, 2);
+        }
+        return new Dataized(chain).asDouble();
+    }
+
+    @Benchmark
+    public double decodesBytes() {
+        return new Dataized(this.encoded).asDouble();
+    }
+
+    @Benchmark
+    public Double decodesBuffer() {
+        final byte[] bytes = new Dataized(this.encoded).take();
+        return ByteBuffer.wrap(bytes.clone()).getDouble();
+    }
+}
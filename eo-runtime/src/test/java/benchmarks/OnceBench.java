@@ -0,0 +1,173 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eolang.AtComposite;
+import org.eolang.AtOnce;
+import org.eolang.Attr;
+import org.eolang.PhDefault;
+import org.eolang.PhOnce;
+import org.eolang.Phi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for reading objects, which are already retrieved, from
+ * {@link AtOnce} and {@link PhOnce} by many threads, comparing them with
+ * the attribute, which takes a lock on every read, the way
+ * {@link AtOnce} did before.
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (200 lines)
+ * @checkstyle NonStaticMethodCheck (200 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings({"JTCOP.RuleAllTestsHaveProductionClass", "JTCOP.RuleCorrectTestName"})
+public class OnceBench {
+
+    /**
+     * Attribute, which reads without locking.
+     */
+    private final Attr once = OnceBench.retrieved(
+        new AtOnce(new AtComposite(Phi.Φ, rho -> new PhDefault()))
+    );
+
+    /**
+     * Attribute, which locks on every read.
+     */
+    private final Attr locked = OnceBench.retrieved(
+        new Locked(new AtComposite(Phi.Φ, rho -> new PhDefault()))
+    );
+
+    /**
+     * Object, which reads without locking.
+     */
+    private final Phi wrapped = new PhOnce(() -> new PhDefault(new byte[] {1}));
+
+    @Benchmark
+    @Threads(1)
+    public Phi readsAtOnceInOneThread() {
+        return this.once.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Phi readsAtOnceInFourThreads() {
+        return this.once.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Phi readsAtOnceInSixteenThreads() {
+        return this.once.get();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public byte[] readsPhOnceInOneThread() {
+        return this.wrapped.delta();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public byte[] readsPhOnceInFourThreads() {
+        return this.wrapped.delta();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public byte[] readsPhOnceInSixteenThreads() {
+        return this.wrapped.delta();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Phi readsLockedInOneThread() {
+        return this.locked.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Phi readsLockedInFourThreads() {
+        return this.locked.get();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Phi readsLockedInSixteenThreads() {
+        return this.locked.get();
+    }
+
+    /**
+     * Retrieve the object from the attribute, to read it later.
+     * @param attr The attribute
+     * @return The same attribute
+     */
+    private static Attr retrieved(final Attr attr) {
+        attr.get();
+        return attr;
+    }
+
+    /**
+     * Attribute, which takes a lock on every read, the way {@link AtOnce}
+     * did before.
+     * @since 0.53
+     */
+    private static final class Locked implements Attr {
+        /**
+         * Origin attribute.
+         */
+        private final Attr origin;
+
+        /**
+         * Cache.
+         */
+        private final AtomicReference<Phi> cached;
+
+        /**
+         * Ctor.
+         * @param attr Origin attribute
+         */
+        Locked(final Attr attr) {
+            this.origin = attr;
+            this.cached = new AtomicReference<>();
+        }
+
+        @Override
+        public Attr copy(final Phi self) {
+            return new Locked(this.origin.copy(self));
+        }
+
+        @Override
+        public Phi get() {
+            synchronized (this.cached) {
+                if (this.cached.get() == null) {
+                    this.cached.set(this.origin.get());
+                }
+            }
+            return this.cached.get();
+        }
+
+        @Override
+        public void put(final Phi phi) {
+            throw new UnsupportedOperationException(this.origin.toString());
+        }
+    }
+}
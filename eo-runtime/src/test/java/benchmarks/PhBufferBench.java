@@ -0,0 +1,73 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eolang.PhBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for building 1 MB of bytes by appending, comparing
+ * {@link PhBuffer}, which is used by {@code bytes.concat}, with copying
+ * of both arrays on every append, the way it was done before.
+ *
+ * <p>Copying with 1-byte appends is quadratic and takes tens of seconds
+ * for one operation, that's why the mode is single shot.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (100 lines)
+ * @checkstyle NonStaticMethodCheck (100 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+@SuppressWarnings({"JTCOP.RuleAllTestsHaveProductionClass", "JTCOP.RuleCorrectTestName"})
+public class PhBufferBench {
+    /**
+     * Total size of the payload.
+     */
+    private static final int TOTAL = 1 << 20;
+
+    /**
+     * Size of one append.
+     */
+    @Param({"1", "4096"})
+    private int chunk;
+
+    @Benchmark
+    public byte[] appendsToBuffer() {
+        final byte[] piece = new byte[this.chunk];
+        PhBuffer buffer = new PhBuffer(new byte[0]);
+        for (int size = 0; size < PhBufferBench.TOTAL; size += piece.length) {
+            buffer = buffer.with(piece);
+        }
+        return buffer.delta();
+    }
+
+    @Benchmark
+    public byte[] copiesArrays() {
+        final byte[] piece = new byte[this.chunk];
+        byte[] current = new byte[0];
+        for (int size = 0; size < PhBufferBench.TOTAL; size += piece.length) {
+            final byte[] dest = new byte[current.length + piece.length];
+            System.arraycopy(current, 0, dest, 0, current.length);
+            System.arraycopy(piece, 0, dest, current.length, piece.length);
+            current = dest;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eolang.AtComposite;
+import org.eolang.AtOnce;
+import org.eolang.AtVoid;
+import org.eolang.Attr;
+import org.eolang.PhDefault;
+import org.eolang.Phi;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for deep copy chains of {@link PhDefault}, which keeps its
+ * attributes in a flat array, laid out by a shared shape, comparing
+ * it with the layout based on hash maps, which was used before.
+ *
+ * <p>Applications copy the same object many times, binding only one
+ * void attribute in each copy, which is what most EO applications do.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (300 lines)
+ * @checkstyle NonStaticMethodCheck (300 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings({"JTCOP.RuleAllTestsHaveProductionClass", "JTCOP.RuleCorrectTestName"})
+public class PhDefaultBench {
+
+    /**
+     * Length of the chain of copies.
+     */
+    @Param({"1", "16", "256"})
+    private int depth;
+
+    @Benchmark
+    public Phi copiesShapedChain() {
+        return PhDefaultBench.chain(new Shaped(), this.depth);
+    }
+
+    @Benchmark
+    public Phi copiesMappedChain() {
+        return PhDefaultBench.chain(new Mapped(), this.depth);
+    }
+
+    @Benchmark
+    public Phi appliesShaped() {
+        return PhDefaultBench.applied(new Shaped(), this.depth);
+    }
+
+    @Benchmark
+    public Phi appliesMapped() {
+        return PhDefaultBench.applied(new Mapped(), this.depth);
+    }
+
+    /**
+     * Make many copies of the same object, binding the void attribute
+     * of each of them by position.
+     * @param start The object to copy
+     * @param total Total number of copies
+     * @return The last copy
+     */
+    private static Phi applied(final Phi start, final int total) {
+        Phi phi = start;
+        for (int idx = 0; idx < total; ++idx) {
+            phi = start.copy();
+            phi.put(0, start);
+        }
+        return phi;
+    }
+
+    /**
+     * Make a chain of copies and bind the void attribute of the last
+     * one by position.
+     * @param start The first object in the chain
+     * @param depth Length of the chain
+     * @return The last object in the chain
+     */
+    private static Phi chain(final Phi start, final int depth) {
+        Phi phi = start;
+        for (int idx = 0; idx < depth; ++idx) {
+            phi = phi.copy();
+        }
+        phi.put(0, start);
+        return phi;
+    }
+
+    /**
+     * Object with the layout of attributes calculated by a shape.
+     * @since 0.53
+     */
+    private static final class Shaped extends PhDefault {
+        /**
+         * Ctor.
+         */
+        Shaped() {
+            this.add("prev", new AtVoid("prev"));
+            for (final String name : PhDefaultBench.names()) {
+                this.add(name, new AtOnce(new AtComposite(this, rho -> Phi.Φ)));
+            }
+        }
+    }
+
+    /**
+     * Object with attributes in hash maps, the way {@link PhDefault}
+     * kept them before shapes were introduced.
+     * @since 0.53
+     */
+    private static final class Mapped implements Phi, Cloneable {
+        /**
+         * Order of names.
+         */
+        private final Map<Integer, String> order;
+
+        /**
+         * Attributes.
+         */
+        private Map<String, Attr> attrs;
+
+        /**
+         * Ctor.
+         */
+        Mapped() {
+            this.attrs = new HashMap<>(0);
+            this.order = new HashMap<>(0);
+            this.attrs.put(Attr.RHO, new AtVoid(Attr.RHO));
+            this.add("prev", new AtVoid("prev"));
+            for (final String name : PhDefaultBench.names()) {
+                this.add(name, new AtOnce(new AtComposite(this, rho -> Phi.Φ)));
+            }
+        }
+
+        @Override
+        public Phi copy() {
+            try {
+                final Mapped copy = (Mapped) this.clone();
+                final Map<String, Attr> map = new HashMap<>(this.attrs.size());
+                for (final Map.Entry<String, Attr> ent : this.attrs.entrySet()) {
+                    map.put(ent.getKey(), ent.getValue().copy(copy));
+                }
+                copy.attrs = map;
+                return copy;
+            } catch (final CloneNotSupportedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        @Override
+        public boolean hasRho() {
+            return true;
+        }
+
+        @Override
+        public Phi take(final String name) {
+            if (!this.attrs.containsKey(name)) {
+                throw new IllegalArgumentException(name);
+            }
+            return this.attrs.get(name).get();
+        }
+
+        @Override
+        public Phi take(final int pos) {
+            return this.take(this.order.get(pos));
+        }
+
+        @Override
+        public void put(final int pos, final Phi object) {
+            this.put(this.order.get(pos), object);
+        }
+
+        @Override
+        public void put(final String name, final Phi object) {
+            if (!this.attrs.containsKey(name)) {
+                throw new IllegalArgumentException(name);
+            }
+            this.attrs.get(name).put(object);
+        }
+
+        @Override
+        public String locator() {
+            return "?";
+        }
+
+        @Override
+        public String forma() {
+            return "[]";
+        }
+
+        @Override
+        public byte[] delta() {
+            return new byte[0];
+        }
+
+        /**
+         * Add new attribute.
+         * @param name The name
+         * @param attr The attr
+         */
+        private void add(final String name, final Attr attr) {
+            this.order.put(this.order.size(), name);
+            this.attrs.put(name, new Wrapped(attr, this));
+        }
+    }
+
+    /**
+     * Attribute wrapping another one, the way every attribute was wrapped
+     * in order to set \rho.
+     * @since 0.53
+     */
+    private static final class Wrapped implements Attr {
+        /**
+         * Original attribute.
+         */
+        private final Attr origin;
+
+        /**
+         * Rho.
+         */
+        private final Phi rho;
+
+        /**
+         * Ctor.
+         * @param attr Original attribute
+         * @param rho Rho
+         */
+        Wrapped(final Attr attr, final Phi rho) {
+            this.origin = attr;
+            this.rho = rho;
+        }
+
+        @Override
+        public Attr copy(final Phi self) {
+            return new Wrapped(this.origin.copy(self), self);
+        }
+
+        @Override
+        public Phi get() {
+            Phi ret = this.origin.get();
+            if (!ret.hasRho()) {
+                ret = ret.copy();
+                ret.put(Attr.RHO, this.rho);
+            }
+            return ret;
+        }
+
+        @Override
+        public void put(final Phi phi) {
+            this.origin.put(phi);
+        }
+    }
+
+    /**
+     * Names of bound attributes of objects in the chain.
+     * @return Names
+     */
+    private static String[] names() {
+        return new String[] {"first", "second", "third", "fourth", "fifth", "sixth"};
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.eolang.AtVoid;
+import org.eolang.Atom;
+import org.eolang.Attr;
+import org.eolang.Data;
+import org.eolang.Dataized;
+import org.eolang.PhDefault;
+import org.eolang.Phi;
+import org.eolang.Pure;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark for dataization of atoms, which are referenced from many
+ * places, comparing {@link Pure} atoms, whose λ is taken only once for
+ * every object, with atoms, whose λ is taken every time.
+ *
+ * <p>Every level of the tree is an atom, which adds up the atom of the
+ * level below with itself, like {@code a.plus a} in EO. Besides time,
+ * the benchmark reports how many times λ was asked for and how many
+ * times it was calculated, the hit ratio of the cache is
+ * {@code 1 - misses / requests}.</p>
+ *
+ * @since 0.53
+ * @checkstyle DesignForExtensionCheck (200 lines)
+ * @checkstyle NonStaticMethodCheck (200 lines)
+ * @checkstyle VisibilityModifierCheck (200 lines)
+ */
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings({"JTCOP.RuleAllTestsHaveProductionClass", "JTCOP.RuleCorrectTestName"})
+public class PureBench {
+    /**
+     * Number of levels in the tree.
+     */
+    @Param({"4", "12"})
+    private int depth;
+
+    @Benchmark
+    public double dataizesPureAtoms(final Counters counters) {
+        return new Dataized(PureBench.tree(this.depth, counters, Cached::new)).asNumber();
+    }
+
+    @Benchmark
+    public double dataizesImpureAtoms(final Counters counters) {
+        return new Dataized(PureBench.tree(this.depth, counters, Sum::new)).asNumber();
+    }
+
+    /**
+     * Make the tree of atoms.
+     * @param depth Number of levels
+     * @param counters The counters
+     * @param atoms Makes an atom
+     * @return The root of the tree
+     */
+    private static Phi tree(final int depth, final Counters counters,
+        final Function<Counters, Phi> atoms) {
+        Phi level = new Data.ToPhi(1L);
+        for (int idx = 0; idx < depth; ++idx) {
+            final Phi atom = atoms.apply(counters);
+            atom.put(0, level);
+            level = atom;
+        }
+        return level;
+    }
+
+    /**
+     * Numbers of requests and calculations of λ, in one iteration.
+     * @since 0.53
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        /**
+         * How many times λ was asked for.
+         */
+        public long requests;
+
+        /**
+         * How many times λ was calculated.
+         */
+        public long misses;
+    }
+
+    /**
+     * Atom, which adds up its argument with itself, taking λ every time.
+     * @since 0.53
+     */
+    private static class Sum extends PhDefault implements Atom {
+        /**
+         * The counters.
+         */
+        private final Counters counters;
+
+        /**
+         * Ctor.
+         * @param counters The counters
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        Sum(final Counters counters) {
+            this.counters = counters;
+            this.add("x", new AtVoid("x"));
+        }
+
+        @Override
+        public Phi take(final String name) {
+            if (Attr.LAMBDA.equals(name)) {
+                ++this.counters.requests;
+            }
+            return super.take(name);
+        }
+
+        @Override
+        public Phi lambda() {
+            ++this.counters.misses;
+            final Phi arg = this.take("x");
+            return new Data.ToPhi(
+                new Dataized(arg).asNumber() + new Dataized(arg).asNumber()
+            );
+        }
+    }
+
+    /**
+     * Atom, which adds up its argument with itself, taking λ only once.
+     * @since 0.53
+     */
+    @Pure
+    private static final class Cached extends Sum {
+        /**
+         * Ctor.
+         * @param counters The counters
+         */
+        Cached(final Counters counters) {
+            super(counters);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Benchmarks.
+ *
+ * @since 0.53
+ */
+package benchmarks;
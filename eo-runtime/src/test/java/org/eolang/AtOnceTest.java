@@ -0,0 +1,75 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import com.yegor256.Together;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link AtOnce}.
+ *
+ * @since 0.53
+ */
+final class AtOnceTest {
+
+    @Test
+    void retrievesObjectOnceInManyThreads() {
+        final AtomicInteger count = new AtomicInteger();
+        final Attr attr = new AtOnce(
+            new AtComposite(
+                Phi.Φ,
+                rho -> {
+                    count.incrementAndGet();
+                    return new PhDefault();
+                }
+            )
+        );
+        final Phi first = attr.get();
+        MatcherAssert.assertThat(
+            "the same object must be retrieved in all threads",
+            new Together<>(thread -> attr.get() == first),
+            Matchers.not(Matchers.hasItem(false))
+        );
+        MatcherAssert.assertThat(
+            "the object must be retrieved only once",
+            count.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void retrievesObjectAgainInCopy() {
+        final AtomicInteger count = new AtomicInteger();
+        final Attr attr = new AtOnce(
+            new AtComposite(
+                Phi.Φ,
+                rho -> {
+                    count.incrementAndGet();
+                    return new PhDefault();
+                }
+            )
+        );
+        attr.get();
+        attr.copy(Phi.Φ).get();
+        MatcherAssert.assertThat(
+            "the copy must retrieve its own object",
+            count.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void refusesToPut() {
+        Assertions.assertThrows(
+            ExReadOnly.class,
+            () -> new AtOnce(new AtComposite(Phi.Φ, rho -> rho)).put(Phi.Φ),
+            "the attribute must be read-only"
+        );
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import com.yegor256.Together;
+import java.util.Collections;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link AtVoid}.
+ *
+ * @since 0.53
+ */
+final class AtVoidTest {
+
+    @Test
+    void failsToPutTwice() {
+        final Attr attr = new AtVoid("x");
+        attr.put(new Data.ToPhi(1L));
+        Assertions.assertThrows(
+            ExReadOnly.class,
+            () -> attr.put(new Data.ToPhi(2L)),
+            "void attribute must not be set twice"
+        );
+    }
+
+    @Test
+    void putsOnlyOnceInManyThreads() {
+        final Attr attr = new AtVoid("x");
+        MatcherAssert.assertThat(
+            "exactly one thread must manage to put its object",
+            Collections.frequency(
+                new ListOf<>(
+                    new Together<>(
+                        16,
+                        thread -> {
+                            boolean put;
+                            try {
+                                attr.put(new PhDefault());
+                                put = true;
+                            } catch (final ExReadOnly ex) {
+                                put = false;
+                            }
+                            return put;
+                        }
+                    )
+                ),
+                true
+            ),
+            Matchers.equalTo(1)
+        );
+    }
+}
@@ -158,4 +158,76 @@ final class BytesOfTest {
             AtCompositeTest.TO_ADD_MESSAGE
         );
     }
+
+    @Test
+    void slicesWithoutCopying() {
+        final byte[] data = {1, 2, 3, 4, 5};
+        final Bytes slice = new BytesOf(new BytesRaw(data)).slice(1, 3);
+        data[2] = 42;
+        MatcherAssert.assertThat(
+            "slice must be a view of the original array",
+            slice.take(),
+            Matchers.equalTo(new byte[] {2, 42, 4})
+        );
+    }
+
+    @Test
+    void comparesSlicesByContent() {
+        MatcherAssert.assertThat(
+            "slices with the same content must be equal",
+            new BytesOf("xabcx").slice(1, 3),
+            Matchers.allOf(
+                Matchers.equalTo(new BytesOf("abc")),
+                Matchers.hasToString(new BytesOf("abc").toString())
+            )
+        );
+    }
+
+    @Test
+    void hashesSlicesLikeArrays() {
+        MatcherAssert.assertThat(
+            "hash code of a slice must be the same as of equal bytes",
+            new BytesOf("-abc").slice(1, 3).hashCode(),
+            Matchers.equalTo(new BytesOf("abc").hashCode())
+        );
+    }
+
+    @Test
+    void convertsSliceToNumber() {
+        MatcherAssert.assertThat(
+            "slice of eight bytes must be converted to a number",
+            new BytesOf(new byte[] {-1, 0, 0, 0, 0, 0, 0, 0, 7, -1}).slice(1, 8).asNumber(
+                Long.class
+            ),
+            Matchers.equalTo(7L)
+        );
+    }
+
+    @Test
+    void appliesOperationsToSlices() {
+        final Bytes bytes = new BytesOf(new byte[] {-1, 0x0F, 0x33, -1});
+        MatcherAssert.assertThat(
+            "bitwise operations must read slices in place",
+            bytes.slice(1, 2).xor(bytes.slice(2, 2)).shift(-4),
+            Matchers.equalTo(new BytesOf(new byte[] {(byte) 0xCC, (byte) 0xC0}))
+        );
+    }
+
+    @Test
+    void countsBytes() {
+        MatcherAssert.assertThat(
+            "size must be the number of bytes in the slice",
+            new BytesOf(42L).slice(2, 5).size(),
+            Matchers.equalTo(5)
+        );
+    }
+
+    @Test
+    void padsSliceBeyondEndWithZeros() {
+        MatcherAssert.assertThat(
+            "slice beyond the end must be padded with zeros",
+            new BytesOf("abc").slice(2, 2).take(),
+            Matchers.equalTo(new byte[] {'c', 0})
+        );
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Context}.
+ *
+ * @since 0.53
+ */
+final class ContextTest {
+    @Test
+    void entersContext() throws IOException {
+        try (Context context = new Context()) {
+            MatcherAssert.assertThat(
+                "Context must be current within itself",
+                context.within(Context::current),
+                Matchers.sameInstance(context)
+            );
+        }
+    }
+
+    @Test
+    void leavesContext() throws IOException {
+        final Context before = Context.current();
+        try (Context context = new Context()) {
+            context.within(() -> new Context().within(Context::current));
+        }
+        MatcherAssert.assertThat(
+            "Context of the thread must be restored after leaving",
+            Context.current(),
+            Matchers.sameInstance(before)
+        );
+    }
+
+    @Test
+    void takesObjectsFromOwnPackages() throws IOException {
+        final Phi global = Phi.Φ.take("org").take("eolang");
+        try (Context context = new Context()) {
+            MatcherAssert.assertThat(
+                "Objects of the context must not be seen by others",
+                context.within(() -> Phi.Φ.take("org").take("eolang")),
+                Matchers.not(Matchers.sameInstance(global))
+            );
+        }
+    }
+
+    @Test
+    void internsNumbersOfOwnPackages() throws IOException {
+        final Phi global = new Data.ToPhi(1L).next();
+        try (Context context = new Context()) {
+            MatcherAssert.assertThat(
+                "Interned numbers of the context must not be seen by others",
+                context.within(() -> new Data.ToPhi(1L).next()),
+                Matchers.allOf(
+                    Matchers.not(Matchers.sameInstance(global)),
+                    Matchers.sameInstance(context.within(() -> new Data.ToPhi(1L).next()))
+                )
+            );
+        }
+    }
+
+    @Test
+    void internsPrototypesOfOwnPackages() throws IOException {
+        final Phi global = new Data.ToPhi(true).next();
+        try (Context first = new Context(); Context second = new Context()) {
+            MatcherAssert.assertThat(
+                "Interned prototypes must be different in different contexts",
+                first.within(() -> new Data.ToPhi(true).next()),
+                Matchers.allOf(
+                    Matchers.not(Matchers.sameInstance(global)),
+                    Matchers.not(
+                        Matchers.sameInstance(second.within(() -> new Data.ToPhi(true).next()))
+                    )
+                )
+            );
+        }
+    }
+
+    @Test
+    void makesPartOnlyOnce() throws IOException {
+        try (Context context = new Context()) {
+            MatcherAssert.assertThat(
+                "Part of the context must be made only once",
+                context.part(StringBuilder.class, StringBuilder::new),
+                Matchers.sameInstance(context.part(StringBuilder.class, StringBuilder::new))
+            );
+        }
+    }
+
+    @Test
+    void closesParts() throws IOException {
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Context context = new Context();
+        context.part(Closeable.class, () -> () -> closed.set(true));
+        context.close();
+        MatcherAssert.assertThat(
+            "Closeable parts must be closed together with the context",
+            closed.get(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void keepsOwnConsole() throws IOException {
+        final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        try (Context context = new Context(stdout, stderr)) {
+            MatcherAssert.assertThat(
+                "Context must give its own streams for the standard output and error",
+                Arrays.asList(context.console(1), context.console(2), context.console(0)),
+                Matchers.contains(
+                    Matchers.sameInstance(stdout),
+                    Matchers.sameInstance(stderr),
+                    Matchers.nullValue()
+                )
+            );
+        }
+    }
+
+    @Test
+    void writesToConsoleOfProcessByDefault() throws IOException {
+        try (Context context = new Context()) {
+            MatcherAssert.assertThat(
+                "Context without its own console must not give any streams",
+                context.console(1),
+                Matchers.nullValue()
+            );
+        }
+    }
+
+    @Test
+    void doesNotCloseGlobalContext() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> Context.current().close(),
+            "Global context must not be closed"
+        );
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import com.yegor256.Together;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Daemon}.
+ *
+ * @since 0.53
+ */
+@ExtendWith(MktmpResolver.class)
+final class DaemonTest {
+    /**
+     * The token of the daemon.
+     */
+    private static final String TOKEN = "secret";
+
+    /**
+     * Socket of the daemon.
+     */
+    private ServerSocket socket;
+
+    /**
+     * Executor, which runs the daemon.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Running daemon.
+     */
+    private Future<?> daemon;
+
+    @BeforeEach
+    void startsDaemon() throws IOException {
+        this.socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+        this.executor = Executors.newSingleThreadExecutor();
+        this.daemon = this.executor.submit(
+            () -> {
+                new Daemon(this.socket, DaemonTest.TOKEN).serve();
+                return null;
+            }
+        );
+    }
+
+    @AfterEach
+    void stopsDaemon() throws Exception {
+        this.socket.close();
+        this.daemon.get();
+        this.executor.shutdown();
+    }
+
+    @Test
+    void dataizesObjectByRequest() throws IOException {
+        MatcherAssert.assertThat(
+            "Daemon must return the result of dataization",
+            this.ask(Arrays.asList("org.eolang.true")),
+            Matchers.equalTo(new Dataized(new Data.ToPhi(true)).take())
+        );
+    }
+
+    @Test
+    void servesManyRequests() throws IOException {
+        this.ask(Arrays.asList("org.eolang.true"));
+        MatcherAssert.assertThat(
+            "Daemon must serve the next request after the first one",
+            this.ask(Arrays.asList("org.eolang.false")),
+            Matchers.equalTo(new Dataized(new Data.ToPhi(false)).take())
+        );
+    }
+
+    @Test
+    void reportsFailureOfRequest() {
+        Assertions.assertThrows(
+            ExFailure.class,
+            () -> this.ask(Arrays.asList("org.eolang.absent")),
+            "Daemon must report the failure of dataization to the client"
+        );
+    }
+
+    @Test
+    void servesRequestAfterFailure() throws IOException {
+        Assertions.assertThrows(
+            ExFailure.class,
+            () -> this.ask(Arrays.asList("")),
+            "Daemon must refuse to dataize an object without a name"
+        );
+        MatcherAssert.assertThat(
+            "Daemon must keep serving after a failed request",
+            this.ask(Arrays.asList("org.eolang.true")),
+            Matchers.equalTo(new Dataized(new Data.ToPhi(true)).take())
+        );
+    }
+
+    @Test
+    void servesRequestsAtTheSameTime() {
+        MatcherAssert.assertThat(
+            "Daemon must serve many requests at the same time",
+            new Together<>(
+                8,
+                thread -> this.ask(Arrays.asList("org.eolang.true"))[0]
+            ),
+            Matchers.everyItem(Matchers.equalTo((byte) 1))
+        );
+    }
+
+    @Test
+    void doesNotTouchObjectsOfGlobalContext() throws IOException {
+        final Phi before = Phi.Φ.take("org").take("eolang");
+        this.ask(Arrays.asList("org.eolang.true"));
+        MatcherAssert.assertThat(
+            "Daemon must load objects in its own context for every request",
+            Phi.Φ.take("org").take("eolang"),
+            Matchers.sameInstance(before)
+        );
+    }
+
+    @Test
+    void refusesRequestWithWrongToken() {
+        Assertions.assertThrows(
+            ExFailure.class,
+            () -> Daemon.ask(
+                this.socket.getLocalPort(), "wrong", Arrays.asList("org.eolang.true"),
+                new ByteArrayOutputStream(), new ByteArrayOutputStream()
+            ),
+            "Daemon must refuse the request without the right token"
+        );
+    }
+
+    @Test
+    void issuesTokenToFile(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("daemons/1234");
+        final String token = Daemon.issued(file);
+        MatcherAssert.assertThat(
+            "Daemon must save the issued token to the file",
+            Daemon.token(file),
+            Matchers.equalTo(token)
+        );
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void issuesTokenReadableByOwnerOnly(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("daemons/4321");
+        Daemon.issued(file);
+        MatcherAssert.assertThat(
+            "Only the owner must be able to read the token",
+            PosixFilePermissions.toString(Files.getPosixFilePermissions(file)),
+            Matchers.equalTo("rw-------")
+        );
+    }
+
+    /**
+     * Ask the daemon with the right token.
+     * @param opts The name of the object and its arguments
+     * @return The result
+     * @throws IOException If fails
+     */
+    private byte[] ask(final List<String> opts) throws IOException {
+        return Daemon.ask(
+            this.socket.getLocalPort(), DaemonTest.TOKEN, opts,
+            new ByteArrayOutputStream(), new ByteArrayOutputStream()
+        );
+    }
+}
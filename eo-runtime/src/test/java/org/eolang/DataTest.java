@@ -4,6 +4,7 @@
  */
 package org.eolang;
 
+import java.nio.ByteBuffer;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -18,10 +19,10 @@ final class DataTest {
     void comparesVertex() {
         MatcherAssert.assertThat(
             AtCompositeTest.TO_ADD_MESSAGE,
-            new Data.ToPhi(42L).hashCode(),
+            new Data.ToPhi(42_000L).hashCode(),
             Matchers.not(
                 Matchers.equalTo(
-                    new Data.ToPhi(42L).hashCode()
+                    new Data.ToPhi(42_000L).hashCode()
                 )
             )
         );
@@ -50,4 +51,55 @@ final class DataTest {
             Matchers.not(Matchers.equalTo(new Data.ToPhi(new byte[] {(byte) 0x00, (byte) 0x1f})))
         );
     }
+
+    @Test
+    void internsSmallIntegers() {
+        MatcherAssert.assertThat(
+            "small integer numbers must be made only once",
+            new Data.ToPhi(42L).hashCode(),
+            Matchers.equalTo(new Data.ToPhi(42.0).hashCode())
+        );
+    }
+
+    @Test
+    void internsBooleans() {
+        MatcherAssert.assertThat(
+            "booleans must be made only once",
+            new Data.ToPhi(true).hashCode(),
+            Matchers.equalTo(new Data.ToPhi(true).hashCode())
+        );
+    }
+
+    @Test
+    void dataizesInternedNumber() {
+        MatcherAssert.assertThat(
+            "interned number must keep its value",
+            new Dataized(new Data.ToPhi(-7L)).asNumber(),
+            Matchers.equalTo(-7.0)
+        );
+    }
+
+    @Test
+    void doesNotInternNegativeZero() {
+        MatcherAssert.assertThat(
+            "negative zero must not be mixed up with zero",
+            new Dataized(new Data.ToPhi(-0.0)).take(),
+            Matchers.equalTo(ByteBuffer.allocate(Double.BYTES).putDouble(-0.0).array())
+        );
+    }
+
+    @Test
+    void makesNonEmptyTuplesFromInternedEmptyOne() {
+        new Data.ToPhi(new Phi[] {new Data.ToPhi(1L)});
+        MatcherAssert.assertThat(
+            "tuples must not share elements",
+            new Dataized(
+                new PhWith(
+                    new Data.ToPhi(new Phi[] {new Data.ToPhi(2L)}).take("at").copy(),
+                    0, new Data.ToPhi(0L)
+                )
+            ).asNumber(),
+            Matchers.equalTo(2.0)
+        );
+    }
 }
@@ -117,6 +117,86 @@ final class DataizedTest {
         );
     }
 
+    @Test
+    void knowsFormaOfGoToTokenJump() {
+        MatcherAssert.assertThat(
+            "Forma of the jump must be the one, which is not reported",
+            Phi.Φ.take("org")
+                .take("eolang")
+                .take("go")
+                .take("to")
+                .take("token")
+                .take("jump")
+                .forma(),
+            Matchers.equalTo(Dataized.JUMP)
+        );
+    }
+
+    @Test
+    void takesCarriedNumberAsIs() {
+        MatcherAssert.assertThat(
+            "the number must be taken from the object, which carries it",
+            new Dataized(new PhNumber(-2.5)).asDouble(),
+            Matchers.equalTo(-2.5)
+        );
+    }
+
+    @Test
+    void takesCarriedNumberThroughWrappers() {
+        MatcherAssert.assertThat(
+            "the number must be taken from the carrier, wrapped by other objects",
+            new Dataized(
+                new PhSafe(new PhOnce(() -> new PhOnce(() -> new PhNumber(0.5))))
+            ).asDouble(),
+            Matchers.equalTo(0.5)
+        );
+    }
+
+    @Test
+    void wrapsFailureOfCarrierBySafeObject() {
+        Assertions.assertThrows(
+            EOerror.ExError.class,
+            () -> new Dataized(
+                new PhSafe(
+                    new PhOnce(
+                        () -> {
+                            throw new ExFailure("no number");
+                        }
+                    ),
+                    "carrier", 1, 2
+                )
+            ).asDouble(),
+            "the failure on the way to the carrier must be wrapped by the safe object"
+        );
+    }
+
+    @Test
+    void decodesNumberFromBytes() {
+        MatcherAssert.assertThat(
+            "the number must be decoded from eight bytes",
+            new Dataized(new PhDefault(new BytesOf(42.0).take())).asDouble(),
+            Matchers.equalTo(42.0)
+        );
+    }
+
+    @Test
+    void decodesIntegerFromBytes() {
+        MatcherAssert.assertThat(
+            "the integer must be decoded from eight bytes",
+            new Dataized(new PhDefault(new BytesOf(-7L).take())).asLong(),
+            Matchers.equalTo(-7L)
+        );
+    }
+
+    @Test
+    void failsToDecodeIntegerFromWrongBytes() {
+        Assertions.assertThrows(
+            ExFailure.class,
+            () -> new Dataized(new PhDefault(new byte[] {0x01, 0x02})).asLong(),
+            "it is expected to fail when there are not eight bytes"
+        );
+    }
+
     /**
      * Handler implementation for tests.
      *
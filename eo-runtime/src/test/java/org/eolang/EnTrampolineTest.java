@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import EOorg.EOeolang.EOerror;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link EnTrampoline}.
+ *
+ * @since 0.53
+ */
+final class EnTrampolineTest {
+    /**
+     * Depth of recursion, which doesn't fit into the Java stack.
+     */
+    private static final int DEPTH = 1_000_000;
+
+    @Test
+    void dataizesDeepDecorators() {
+        MatcherAssert.assertThat(
+            "a million of nested \\phi must be dataized",
+            new EnTrampoline().delta(new EnTrampolineTest.Decorator(EnTrampolineTest.DEPTH)),
+            Matchers.equalTo(new byte[] {42})
+        );
+    }
+
+    @Test
+    void dataizesDeepAtoms() {
+        MatcherAssert.assertThat(
+            "a million of atoms, each returning the next one, must be dataized",
+            new EnTrampoline().delta(new EnTrampolineTest.Recursive(EnTrampolineTest.DEPTH)),
+            Matchers.equalTo(new byte[] {42})
+        );
+    }
+
+    @Test
+    void wrapsErrorsLikeRecursion() {
+        final Phi phi = new PhSafe(
+            new PhWith(
+                new PhSafe(new PhDefault(), "inner", 1, 2),
+                Attr.RHO, Phi.Φ
+            ),
+            "outer", 3, 4
+        );
+        MatcherAssert.assertThat(
+            "errors must be wrapped by all safe objects, in the same order",
+            Assertions.assertThrows(
+                EOerror.ExError.class,
+                () -> new EnTrampoline().delta(phi),
+                "the error must be thrown"
+            ).messages(),
+            Matchers.equalTo(
+                Assertions.assertThrows(
+                    EOerror.ExError.class,
+                    phi::delta,
+                    "the error must be thrown by the object"
+                ).messages()
+            )
+        );
+    }
+
+    /**
+     * Object, which decorates the next one.
+     * @since 0.53
+     */
+    private static final class Decorator extends PhDefault {
+        /**
+         * Ctor.
+         * @param depth How many decorators are left
+         */
+        Decorator(final int depth) {
+            this.add(
+                Attr.PHI,
+                new AtComposite(
+                    this,
+                    rho -> {
+                        final Phi next;
+                        if (depth == 0) {
+                            next = new PhDefault(new byte[] {42});
+                        } else {
+                            next = new EnTrampolineTest.Decorator(depth - 1);
+                        }
+                        return next;
+                    }
+                )
+            );
+        }
+    }
+
+    /**
+     * Atom, which returns the next one.
+     * @since 0.53
+     */
+    private static final class Recursive extends PhDefault implements Atom {
+        /**
+         * How many atoms are left.
+         */
+        private final int depth;
+
+        /**
+         * Ctor.
+         * @param depth How many atoms are left
+         */
+        Recursive(final int depth) {
+            this.depth = depth;
+        }
+
+        @Override
+        public Phi lambda() {
+            final Phi next;
+            if (this.depth == 0) {
+                next = new PhDefault(new byte[] {42});
+            } else {
+                next = new PhOnce(() -> new EnTrampolineTest.Recursive(this.depth - 1));
+            }
+            return next;
+        }
+    }
+}
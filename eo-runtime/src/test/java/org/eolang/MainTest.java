@@ -83,6 +83,26 @@ final class MainTest {
         );
     }
 
+    @Test
+    void executesJvmFullRunWithTrampoline() {
+        MatcherAssert.assertThat(
+            "Incorrect output when dataizing \"false\" object with trampoline",
+            MainTest.exec("--trampoline", "org.eolang.false"),
+            Matchers.containsString("false")
+        );
+    }
+
+    @Test
+    void executesJvmFullRunWithErrorWithTrampoline() {
+        MatcherAssert.assertThat(
+            "Fails with the same error message with trampoline",
+            MainTest.exec("--trampoline", "org.eolang.io.stdout"),
+            Matchers.containsString(
+                "Error in \"Φ.org.eolang.io.stdout.φ.Δ\" "
+            )
+        );
+    }
+
     @Test
     void executesJvmFullRunWithDashedObject() {
         MatcherAssert.assertThat(
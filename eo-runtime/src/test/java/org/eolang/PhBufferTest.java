@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link PhBuffer}.
+ *
+ * @since 0.53
+ */
+final class PhBufferTest {
+
+    @Test
+    void appendsBytes() {
+        MatcherAssert.assertThat(
+            "all appended bytes must be in the delta",
+            new PhBuffer(new byte[] {1, 2})
+                .with(new byte[] {3})
+                .with(new byte[0])
+                .with(new byte[] {4, 5})
+                .delta(),
+            Matchers.equalTo(new byte[] {1, 2, 3, 4, 5})
+        );
+    }
+
+    @Test
+    void keepsBytesOfEveryObjectInChain() {
+        final PhBuffer first = new PhBuffer(new byte[] {1}).with(new byte[] {2});
+        final PhBuffer second = first.with(new byte[] {3});
+        final PhBuffer third = first.with(new byte[] {4, 4});
+        MatcherAssert.assertThat(
+            "objects appended to the same one must not see each other's bytes",
+            new byte[][] {first.delta(), second.delta(), third.delta()},
+            Matchers.equalTo(
+                new byte[][] {{1, 2}, {1, 2, 3}, {1, 2, 4, 4}}
+            )
+        );
+    }
+
+    @Test
+    void doesNotModifyGivenBytes() {
+        final byte[] bytes = {7, 8};
+        new PhBuffer(bytes).with(new byte[] {9});
+        MatcherAssert.assertThat(
+            "the bytes given to the buffer must stay as they are",
+            bytes,
+            Matchers.equalTo(new byte[] {7, 8})
+        );
+    }
+
+    @Test
+    void copiesWithTheSameBytes() {
+        MatcherAssert.assertThat(
+            "copy must have the same bytes",
+            new PhBuffer(new byte[] {1}).with(new byte[] {2}).copy().delta(),
+            Matchers.equalTo(new byte[] {1, 2})
+        );
+    }
+}
@@ -56,6 +56,18 @@ final class PhDefaultTest {
         );
     }
 
+    @Test
+    void makesFormaOnlyOncePerClass() {
+        MatcherAssert.assertThat(
+            "Forma of objects of the same class must be made only once",
+            new EOnumber().forma(),
+            Matchers.allOf(
+                Matchers.equalTo("Φ.org.eolang.number"),
+                Matchers.sameInstance(new EOnumber().forma())
+            )
+        );
+    }
+
     @Test
     void doesNotHaveRhoWhenFormed() {
         final Phi phi = new PhSafe(new PhDefaultTest.Int());
@@ -220,6 +232,29 @@ final class PhDefaultTest {
         );
     }
 
+    @Test
+    void doesNotSeeVoidAttributeSetAfterCopying() {
+        final Phi phi = new PhDefaultTest.Int();
+        final Phi copy = new PhSafe(phi.copy());
+        phi.put(PhDefaultTest.VOID_ATT, new Data.ToPhi(10L));
+        Assertions.assertThrows(
+            ExAbstract.class,
+            () -> copy.take(PhDefaultTest.VOID_ATT),
+            "Void attribute set in the original after copying should stay unset in the copy"
+        );
+    }
+
+    @Test
+    void keepsSetVoidAttributeInCopyOfCopy() {
+        final Phi phi = new PhDefaultTest.Int().copy();
+        phi.put(PhDefaultTest.VOID_ATT, new Data.ToPhi(10L));
+        MatcherAssert.assertThat(
+            "Void attribute set in a copy should be set in its copies",
+            new Dataized(phi.copy().copy().take(PhDefaultTest.VOID_ATT)).asNumber(),
+            Matchers.equalTo(10.0)
+        );
+    }
+
     @Test
     void doesNotCopySetVoidAttributeWithRho() {
         final Phi phi = new PhDefaultTest.Int();
@@ -483,6 +518,91 @@ final class PhDefaultTest {
         );
     }
 
+    @Test
+    void takesLambdaOfPureAtomOnlyOnce() {
+        final PhDefaultTest.Twice atom = new PhDefaultTest.Twice();
+        atom.put(0, new Data.ToPhi(7L));
+        new Dataized(atom).take();
+        new Dataized(atom).take();
+        MatcherAssert.assertThat(
+            "λ of pure atom must be taken only once",
+            atom.count,
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void takesLambdaOfImpureAtomEveryTime() {
+        final PhDefaultTest.Impure atom = new PhDefaultTest.Impure();
+        new Dataized(atom).take();
+        new Dataized(atom).take();
+        MatcherAssert.assertThat(
+            "λ of impure atom must be taken every time",
+            atom.count,
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void takesLambdaOfPureAtomAgainInCopy() {
+        final PhDefaultTest.Twice atom = new PhDefaultTest.Twice();
+        atom.put(0, new Data.ToPhi(21L));
+        new Dataized(atom).take();
+        final PhDefaultTest.Twice copy = (PhDefaultTest.Twice) atom.copy();
+        MatcherAssert.assertThat(
+            "λ of a copy of pure atom must be taken for the copy",
+            new Dataized(copy).asNumber(),
+            Matchers.equalTo(42.0)
+        );
+        MatcherAssert.assertThat(
+            "λ of a copy of pure atom must not be taken from the original",
+            copy.count,
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void publishesOneLambdaOfPureAtomInParallel() {
+        final PhDefaultTest.Twice atom = new PhDefaultTest.Twice();
+        atom.put(0, new Data.ToPhi(1L));
+        MatcherAssert.assertThat(
+            "all threads must get the same λ of pure atom",
+            new SetOf<>(
+                new Together<>(
+                    16,
+                    t -> atom.take(Attr.LAMBDA)
+                )
+            ),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    @Test
+    void takesAttributeFromDecorateeRightAway() {
+        final PhDefaultTest.Counted deco = new PhDefaultTest.Counted(new PhDefaultTest.Foo());
+        deco.take("kid");
+        deco.take("kid");
+        MatcherAssert.assertThat(
+            "\phi must not be taken again, when the route to the attribute is known",
+            deco.count,
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void takesAttributeFromDecorateeOfCopy() {
+        final Phi first = new PhDefaultTest.WithVoidPhi().copy();
+        final Phi foo = new PhDefaultTest.Foo();
+        foo.put(Attr.RHO, first);
+        first.put(Attr.PHI, foo);
+        first.take("kid");
+        MatcherAssert.assertThat(
+            "the attribute must be taken from the decoratee of the copy",
+            first.copy().take("kid").take(Attr.RHO),
+            Matchers.not(Matchers.sameInstance(foo))
+        );
+    }
+
     /**
      * Rnd.
      * @since 0.1.0
@@ -723,4 +843,87 @@ final class PhDefaultTest {
             );
         }
     }
+
+    /**
+     * Pure atom, which doubles its argument and counts how many times
+     * its λ is taken.
+     * @since 0.53
+     */
+    @Pure
+    private static final class Twice extends PhDefault implements Atom {
+        /**
+         * How many times λ is taken.
+         */
+        private int count;
+
+        /**
+         * Ctor.
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        Twice() {
+            this.add("x", new AtVoid("x"));
+        }
+
+        @Override
+        public Phi lambda() {
+            ++this.count;
+            return new Data.ToPhi(new Dataized(this.take("x")).asNumber() * 2);
+        }
+    }
+
+    /**
+     * Impure atom, which counts how many times its λ is taken.
+     * @since 0.53
+     */
+    private static final class Impure extends PhDefault implements Atom {
+        /**
+         * How many times λ is taken.
+         */
+        private int count;
+
+        @Override
+        public Phi lambda() {
+            ++this.count;
+            return new Data.ToPhi(this.count);
+        }
+    }
+
+    /**
+     * Decorator, which counts how many times its \phi is taken.
+     * @since 0.53
+     */
+    private static final class Counted extends PhDefault {
+        /**
+         * How many times \phi is taken.
+         */
+        private int count;
+
+        /**
+         * Ctor.
+         * @param inner The decoratee
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        Counted(final Phi inner) {
+            this.add(
+                Attr.PHI,
+                new AtOnce(
+                    new AtComposite(
+                        this,
+                        rho -> {
+                            inner.put(Attr.RHO, rho);
+                            return inner;
+                        }
+                    )
+                )
+            );
+        }
+
+        @Override
+        public Phi take(final String name) {
+            if (Attr.PHI.equals(name)) {
+                ++this.count;
+            }
+            return super.take(name);
+        }
+    }
 }
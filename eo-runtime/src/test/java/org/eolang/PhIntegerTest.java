@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link PhInteger}.
+ *
+ * @since 0.53
+ */
+final class PhIntegerTest {
+
+    @Test
+    void encodesItselfIntoBytes() {
+        MatcherAssert.assertThat(
+            "carried i32 must be encoded into four bytes",
+            new PhInteger(-2L, Integer.BYTES).delta(),
+            Matchers.equalTo(new BytesOf(-2).take())
+        );
+    }
+
+    @Test
+    void behavesAsInteger() {
+        MatcherAssert.assertThat(
+            "attributes of EO i64 must be available",
+            new Dataized(new PhInteger(42L).take("as-number")).asDouble(),
+            Matchers.equalTo(42.0)
+        );
+    }
+
+    @Test
+    void makesEoObjectOfRightType() {
+        MatcherAssert.assertThat(
+            "i16 must be made of the right EO object",
+            new PhInteger(5L, Short.BYTES).forma(),
+            Matchers.containsString("i16")
+        );
+    }
+
+    @Test
+    void staysRhoOfItsAttributes() {
+        final Phi num = new PhInteger(3L);
+        MatcherAssert.assertThat(
+            "the carried integer must be the rho of its attributes",
+            num.take("as-number").take(Attr.RHO),
+            Matchers.sameInstance(num)
+        );
+    }
+}
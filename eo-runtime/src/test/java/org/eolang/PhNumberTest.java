@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link PhNumber}.
+ *
+ * @since 0.53
+ */
+final class PhNumberTest {
+
+    @Test
+    void hasTheSameBytesAsNumber() {
+        MatcherAssert.assertThat(
+            "carried number must be encoded the same way as EO number",
+            new PhNumber(3.14).delta(),
+            Matchers.equalTo(new Data.ToPhi(3.14).delta())
+        );
+    }
+
+    @Test
+    void behavesAsNumber() {
+        MatcherAssert.assertThat(
+            "attributes of EO number must be available",
+            new Dataized(new PhNumber(7.0).take("neg")).asDouble(),
+            Matchers.equalTo(-7.0)
+        );
+    }
+
+    @Test
+    void keepsValueInCopy() {
+        MatcherAssert.assertThat(
+            "copy must carry the same value",
+            new Dataized(new PhNumber(1.5).copy()).asDouble(),
+            Matchers.equalTo(1.5)
+        );
+    }
+
+    @Test
+    void staysRhoOfItsAttributes() {
+        final Phi num = new PhNumber(2.0);
+        MatcherAssert.assertThat(
+            "the carried number must be the rho of its attributes",
+            num.take("plus").take(Attr.RHO),
+            Matchers.sameInstance(num)
+        );
+    }
+
+    @Test
+    void hasRhoOfEoNumber() {
+        MatcherAssert.assertThat(
+            "the carried number must have rho, if EO number has it",
+            new PhNumber(2.0).hasRho(),
+            Matchers.equalTo(new Data.ToPhi(2.0).hasRho())
+        );
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import com.yegor256.Together;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link PhOnce}.
+ *
+ * @since 0.53
+ */
+final class PhOnceTest {
+
+    @Test
+    void makesObjectOnceInManyThreads() {
+        final AtomicInteger count = new AtomicInteger();
+        final Phi phi = new PhOnce(
+            () -> {
+                count.incrementAndGet();
+                return new PhDefault(new byte[] {42});
+            }
+        );
+        MatcherAssert.assertThat(
+            "the object must be delegated to in all threads",
+            new Together<>(thread -> phi.delta()[0] == 42),
+            Matchers.not(Matchers.hasItem(false))
+        );
+        MatcherAssert.assertThat(
+            "the object must be made only once",
+            count.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void doesNotMakeObjectUntilNeeded() {
+        final AtomicInteger count = new AtomicInteger();
+        new PhOnce(
+            () -> {
+                count.incrementAndGet();
+                return new PhDefault();
+            }
+        ).copy();
+        MatcherAssert.assertThat(
+            "the object must not be made by copying",
+            count.get(),
+            Matchers.equalTo(0)
+        );
+    }
+}
@@ -127,6 +127,18 @@ final class PhPackageTest {
         );
     }
 
+    @Test
+    void setsRhoToObjectsTakenInThreads() {
+        final PhPackage pckg = new PhPackage(PhPackageTest.DEFAULT_PACKAGE);
+        MatcherAssert.assertThat(
+            "Objects taken in many threads must all have the package as rho",
+            new Together<>(
+                thread -> pckg.take("seq").take(Attr.RHO)
+            ),
+            Matchers.everyItem(Matchers.sameInstance(pckg))
+        );
+    }
+
     private static Stream<Arguments> attributes() {
         return Stream.of(
             Arguments.of("bytes$eq", EObytes$EOeq.class),
@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Profiling}.
+ *
+ * @since 0.53
+ */
+final class ProfilingTest {
+    @Test
+    void collapsesStackOfThread() {
+        final Profiling.Frames frames = new Profiling.Frames();
+        frames.push(new PhSafe(new Data.ToPhi(1L), "app.eo", 3, 2, "Φ.app", "app"));
+        frames.push(new PhSafe(new Data.ToPhi(2L), "app.eo", 5, 4, "Φ.app.φ", "φ"));
+        final Profiling.Sampler sampler = new Profiling.Sampler(
+            Collections.singletonMap(Thread.currentThread(), frames)
+        );
+        sampler.sample();
+        MatcherAssert.assertThat(
+            "Stack must be collapsed from the outermost frame to the innermost one",
+            sampler.profile(),
+            Matchers.equalTo("Φ.app at app.eo:3:2;Φ.app.φ at app.eo:5:4 1\n")
+        );
+    }
+
+    @Test
+    void countsSamplesOfSameStack() {
+        final Profiling.Frames frames = new Profiling.Frames();
+        frames.push(new PhSafe(new Data.ToPhi(1L), "x.eo", 1, 0, "Φ.x", "x"));
+        final Profiling.Sampler sampler = new Profiling.Sampler(
+            Collections.singletonMap(Thread.currentThread(), frames)
+        );
+        sampler.sample();
+        sampler.sample();
+        frames.push(new PhSafe(new Data.ToPhi(2L), "x.eo", 2, 0, "Φ.x.y", "y"));
+        sampler.sample();
+        MatcherAssert.assertThat(
+            "Samples of the same stack must be counted together",
+            sampler.profile(),
+            Matchers.equalTo("Φ.x at x.eo:1:0 2\nΦ.x at x.eo:1:0;Φ.x.y at x.eo:2:0 1\n")
+        );
+    }
+
+    @Test
+    void skipsLeftFrames() {
+        final Profiling.Frames frames = new Profiling.Frames();
+        frames.push(new PhSafe(new Data.ToPhi(1L), "x.eo", 1, 0, "Φ.x", "x"));
+        frames.leave();
+        final Profiling.Sampler sampler = new Profiling.Sampler(
+            Collections.singletonMap(Thread.currentThread(), frames)
+        );
+        sampler.sample();
+        MatcherAssert.assertThat(
+            "Empty stacks must not be in the profile",
+            sampler.profile(),
+            Matchers.emptyString()
+        );
+    }
+
+    @Test
+    void keepsDeepStack() {
+        final Profiling.Frames frames = new Profiling.Frames();
+        final int depth = 1000;
+        for (int idx = 0; idx < depth; ++idx) {
+            frames.push(new PhSafe(new Data.ToPhi(1L), "x.eo", idx, 0, "Φ.x", "x"));
+        }
+        final Profiling.Sampler sampler = new Profiling.Sampler(
+            Collections.singletonMap(Thread.currentThread(), frames)
+        );
+        sampler.sample();
+        MatcherAssert.assertThat(
+            "All frames of a deep stack must be in the profile",
+            sampler.profile().split(";"),
+            Matchers.arrayWithSize(depth)
+        );
+    }
+
+    @Test
+    void forgetsFinishedThreads() throws InterruptedException {
+        final Thread thread = new Thread(() -> { });
+        thread.start();
+        thread.join();
+        final Map<Thread, Profiling.Frames> stacks = new ConcurrentHashMap<>(0);
+        stacks.put(thread, new Profiling.Frames());
+        new Profiling.Sampler(stacks).sample();
+        MatcherAssert.assertThat(
+            "Stacks of finished threads must be forgotten",
+            stacks,
+            Matchers.anEmptyMap()
+        );
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Recorded}.
+ *
+ * @since 0.53
+ */
+@ExtendWith(MktmpResolver.class)
+final class RecordedTest {
+    @Test
+    void recordsDataization(@Mktmp final Path dir) throws IOException {
+        final String forma = new RecordedTest.Answer().forma();
+        MatcherAssert.assertThat(
+            "Dataization must be recorded with forma and number of bytes",
+            RecordedTest.recorded(
+                dir, "org.eolang.Dataization",
+                () -> new Dataized(new RecordedTest.Answer()).take()
+            ).stream()
+                .filter(event -> forma.equals(event.getString("forma")))
+                .map(event -> event.getInt("bytes"))
+                .collect(Collectors.toList()),
+            Matchers.hasItem(Long.BYTES)
+        );
+    }
+
+    @Test
+    void recordsLambda(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "Call of λ must be recorded with the class of the atom",
+            RecordedTest.recorded(
+                dir, "org.eolang.Lambda",
+                () -> new Dataized(new RecordedTest.Answer()).take()
+            ).stream()
+                .map(event -> event.<RecordedClass>getValue("atom").getName())
+                .collect(Collectors.toList()),
+            Matchers.hasItem(RecordedTest.Answer.class.getName())
+        );
+    }
+
+    @Test
+    void recordsLoading(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "Loading of an object must be recorded with its name",
+            RecordedTest.recorded(
+                dir, "org.eolang.Load",
+                () -> {
+                    try (Context context = new Context()) {
+                        context.within(() -> Phi.Φ.take("org.eolang.true"));
+                    }
+                }
+            ).stream()
+                .map(event -> event.getString("object"))
+                .collect(Collectors.toList()),
+            Matchers.hasItem("Φ.org.eolang.true")
+        );
+    }
+
+    @Test
+    void recordsCopy(@Mktmp final Path dir) throws IOException {
+        final String forma = new RecordedTest.Answer().forma();
+        MatcherAssert.assertThat(
+            "Copy must be recorded with forma, when it's enabled",
+            RecordedTest.recorded(
+                dir, "org.eolang.Copy",
+                () -> new RecordedTest.Answer().copy()
+            ).stream()
+                .map(event -> event.getString("forma"))
+                .collect(Collectors.toList()),
+            Matchers.hasItem(forma)
+        );
+    }
+
+    /**
+     * Record events of one type, while the action is running.
+     * @param dir Directory for the recording
+     * @param name Name of the event type
+     * @param action The action
+     * @return Recorded events
+     * @throws IOException If fails
+     */
+    private static List<RecordedEvent> recorded(
+        final Path dir, final String name, final Action action
+    ) throws IOException {
+        final Path file = dir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(name).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> name.equals(event.getEventType().getName()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Action, which may throw {@link IOException}.
+     *
+     * @since 0.53
+     */
+    private interface Action {
+        /**
+         * Run it.
+         * @throws IOException If fails
+         */
+        void run() throws IOException;
+    }
+
+    /**
+     * Atom, which returns a number.
+     *
+     * @since 0.53
+     */
+    private static final class Answer extends PhDefault implements Atom {
+        @Override
+        public Phi lambda() {
+            return new Data.ToPhi(42L);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import java.util.Collection;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Registries}.
+ *
+ * @since 0.53
+ */
+final class RegistriesTest {
+
+    @Test
+    void knowsAllPackagesOfObjects() {
+        MatcherAssert.assertThat(
+            "all parent packages of a registered object must be known",
+            new Registries(Collections.singleton(new RegistriesTest.Fake()))
+                .isPackage("EOorg"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotTakeObjectForPackage() {
+        MatcherAssert.assertThat(
+            "registered object must not be known as a package",
+            new Registries(Collections.singleton(new RegistriesTest.Fake()))
+                .isPackage("EOorg.EOfoo.EObar"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void makesRegisteredObject() {
+        MatcherAssert.assertThat(
+            "registered object must be made by its registry",
+            new Registries(Collections.singleton(new RegistriesTest.Fake()))
+                .make("EOorg.EOfoo.EObar"),
+            Matchers.instanceOf(PhDefault.class)
+        );
+    }
+
+    @Test
+    void knowsRegisteredAtom() {
+        MatcherAssert.assertThat(
+            "registered atom must be known",
+            new Registries(Collections.singleton(new RegistriesTest.Fake()))
+                .isAtom("EOorg.EOeolang.EOtry"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Fake registry.
+     * @since 0.53
+     */
+    private static final class Fake implements Registry {
+        @Override
+        public Collection<String> objects() {
+            return Collections.singleton("EOorg.EOfoo.EObar");
+        }
+
+        @Override
+        public Collection<String> atoms() {
+            return Collections.singleton("EOorg.EOeolang.EOtry");
+        }
+
+        @Override
+        public Phi make(final String name) {
+            return new PhDefault();
+        }
+    }
+}
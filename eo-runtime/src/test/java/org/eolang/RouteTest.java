@@ -0,0 +1,140 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import EOorg.EOeolang.EOerror;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Route}.
+ *
+ * @since 0.53
+ */
+final class RouteTest {
+
+    @Test
+    void takesAttributeFromOwner() {
+        MatcherAssert.assertThat(
+            "the attribute must be taken from the decoratee of the decoratee",
+            new Dataized(
+                Route.found(new RouteTest.Deco(new RouteTest.Deco(new RouteTest.Leaf())), "foo")
+                    .take()
+            ).asNumber(),
+            Matchers.equalTo(42.0)
+        );
+    }
+
+    @Test
+    void isFixedWhenDecorateesAreRetrievedOnce() {
+        MatcherAssert.assertThat(
+            "the route through objects retrieved by AtOnce must be fixed",
+            Route.found(new RouteTest.Deco(new RouteTest.Leaf()), "foo").isFixed(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void isNotFixedWhenDecorateeIsMadeEveryTime() {
+        MatcherAssert.assertThat(
+            "the route through \\phi made on every access must not be fixed",
+            Route.found(new RouteTest.Fresh(), "foo").isFixed(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void wrapsFailureBySafeObjectsPassedBy() {
+        MatcherAssert.assertThat(
+            "the failure must be wrapped by all safe objects on the way",
+            Assertions.assertThrows(
+                EOerror.ExError.class,
+                () -> Route.found(
+                    new RouteTest.Deco(new RouteTest.Deco(new RouteTest.Leaf())), "bad"
+                ).take(),
+                "the failure of the owner must be thrown out"
+            ).messages(),
+            Matchers.contains(
+                "Error in \"deco\" at route:1:2",
+                "Error in \"deco\" at route:1:2"
+            )
+        );
+    }
+
+    /**
+     * Object with attributes.
+     * @since 0.53
+     */
+    private static final class Leaf extends PhDefault {
+        /**
+         * Ctor.
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        Leaf() {
+            this.add("foo", new AtOnce(new AtComposite(this, rho -> new Data.ToPhi(42L))));
+            this.add(
+                "bad",
+                new AtComposite(
+                    this,
+                    rho -> {
+                        throw new ExFailure("intentional failure");
+                    }
+                )
+            );
+        }
+    }
+
+    /**
+     * Object, which decorates the safe wrapper of another one.
+     * @since 0.53
+     */
+    private static final class Deco extends PhDefault {
+        /**
+         * Ctor.
+         * @param inner The object to decorate
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        Deco(final Phi inner) {
+            this.add(
+                Attr.PHI,
+                new AtOnce(
+                    new AtComposite(
+                        this,
+                        rho -> {
+                            inner.put(Attr.RHO, rho);
+                            return new PhSafe(inner, "route", 1, 2, "deco", "deco");
+                        }
+                    )
+                )
+            );
+        }
+    }
+
+    /**
+     * Object, which makes its decoratee on every access.
+     * @since 0.53
+     */
+    private static final class Fresh extends PhDefault {
+        /**
+         * Ctor.
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        Fresh() {
+            this.add(
+                Attr.PHI,
+                new AtComposite(
+                    this,
+                    rho -> {
+                        final Phi leaf = new RouteTest.Leaf();
+                        leaf.put(Attr.RHO, rho);
+                        return leaf;
+                    }
+                )
+            );
+        }
+    }
+}
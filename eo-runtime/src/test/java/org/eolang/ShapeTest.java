@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Shape}.
+ *
+ * @since 0.53
+ */
+final class ShapeTest {
+
+    @Test
+    void keepsRhoInTheFirstSlot() {
+        MatcherAssert.assertThat(
+            "rho must be in the first slot of the root shape",
+            Shape.ROOT.slot(Attr.RHO),
+            Matchers.equalTo(Shape.RHO)
+        );
+    }
+
+    @Test
+    void reusesShapesForTheSameAttributes() {
+        MatcherAssert.assertThat(
+            "the same sequence of attributes must lead to the same shape",
+            Shape.ROOT.with("x", true).with(Attr.PHI, false),
+            Matchers.sameInstance(Shape.ROOT.with("x", true).with(Attr.PHI, false))
+        );
+    }
+
+    @Test
+    void distinguishesVoidAttributes() {
+        MatcherAssert.assertThat(
+            "void and bound attributes must lead to different shapes",
+            Shape.ROOT.with("y", true),
+            Matchers.not(Matchers.sameInstance(Shape.ROOT.with("y", false)))
+        );
+    }
+
+    @Test
+    void ordersPositionalAttributesOnly() {
+        final Shape shape = Shape.ROOT.with("a", true).with("Δ", false).with("b", true);
+        MatcherAssert.assertThat(
+            "only sortable attributes must have positions",
+            shape.position(1),
+            Matchers.equalTo(shape.slot("b"))
+        );
+    }
+
+    @Test
+    void findsPhiSlot() {
+        MatcherAssert.assertThat(
+            "phi slot must be remembered by the shape",
+            Shape.ROOT.with("q", false).with(Attr.PHI, false).phi(),
+            Matchers.equalTo(2)
+        );
+    }
+}
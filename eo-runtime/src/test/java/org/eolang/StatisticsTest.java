@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import com.yegor256.Together;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Statistics}.
+ *
+ * @since 0.53
+ */
+final class StatisticsTest {
+
+    @AfterEach
+    void turnsStatisticsOff() {
+        Statistics.uninstall();
+    }
+
+    @Test
+    void countsEventsOfForma() {
+        final String forma = new StatisticsTest.Answer().forma();
+        final Statistics stats = new Statistics();
+        Statistics.install(stats);
+        final Phi answer = new StatisticsTest.Answer();
+        new Dataized(answer).take();
+        answer.copy();
+        Statistics.uninstall();
+        MatcherAssert.assertThat(
+            "objects, copies, takes, dataizations, λ calls and bytes must be counted",
+            stats.table(),
+            Matchers.containsString(
+                String.format(
+                    "%12d %12d %12d %12d %12d %12d  %s%n", 2, 1, 1, 1, 1, Long.BYTES, forma
+                )
+            )
+        );
+    }
+
+    @Test
+    void sortsFormasByTakes() {
+        final Statistics stats = new Statistics();
+        stats.of("Φ.rare").takes.increment();
+        stats.of("Φ.often").takes.add(100L);
+        stats.of("Φ.never").copies.increment();
+        MatcherAssert.assertThat(
+            "formas with more attributes taken must be higher in the table",
+            stats.table(),
+            Matchers.stringContainsInOrder(Arrays.asList("Φ.often", "Φ.rare", "Φ.never"))
+        );
+    }
+
+    @Test
+    void countsInManyThreads() {
+        final Statistics stats = new Statistics();
+        final int threads = 8;
+        MatcherAssert.assertThat(
+            "counters must not lose increments made in many threads",
+            new ListOf<>(
+                new Together<>(
+                    threads,
+                    thread -> {
+                        final LongAdder takes = stats.of("Φ.busy").takes;
+                        for (int idx = 0; idx < 1000; ++idx) {
+                            takes.increment();
+                        }
+                        return takes;
+                    }
+                )
+            ).get(0).sum(),
+            Matchers.equalTo(threads * 1000L)
+        );
+    }
+
+    /**
+     * Atom, which returns a number.
+     *
+     * @since 0.53
+     */
+    private static final class Answer extends PhDefault implements Atom {
+        @Override
+        public Phi lambda() {
+            return new Data.ToPhi(42L);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2016-2025 Objectionary.com
+ * SPDX-License-Identifier: MIT
+ */
+package org.eolang;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Tracing}.
+ *
+ * @since 0.53
+ */
+final class TracingTest {
+
+    @AfterEach
+    void turnsTracingOff() {
+        Tracing.uninstall();
+    }
+
+    @Test
+    void reportsTakenAttributes() {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>(0));
+        Tracing.install(
+            (object, attr, depth, result) -> events.add(String.format("%s:%d", attr, depth))
+        );
+        new TracingTest.Dummy().take("outer");
+        MatcherAssert.assertThat(
+            "all taken attributes must be reported with their depth",
+            events,
+            Matchers.contains("inner:2", "outer:1")
+        );
+    }
+
+    @Test
+    void reportsNothingWhenUninstalled() {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>(0));
+        Tracing.install((object, attr, depth, result) -> events.add(attr));
+        Tracing.uninstall();
+        new TracingTest.Dummy().take("outer");
+        MatcherAssert.assertThat(
+            "nothing must be reported when tracing is off",
+            events,
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * Dummy object.
+     * @since 0.53
+     */
+    private static final class Dummy extends PhDefault {
+        /**
+         * Ctor.
+         */
+        Dummy() {
+            this.add("inner", new AtOnce(new AtComposite(this, rho -> new PhDefault())));
+            this.add("outer", new AtOnce(new AtComposite(this, rho -> rho.take("inner"))));
+        }
+    }
+}